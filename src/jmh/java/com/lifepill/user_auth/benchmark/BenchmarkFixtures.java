@@ -0,0 +1,88 @@
+package com.lifepill.user_auth.benchmark;
+
+import com.lifepill.user_auth.config.JwtSigningProperties;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.entity.UserAddress;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import com.lifepill.user_auth.security.JwtKeyProvider;
+import com.lifepill.user_auth.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared setup for benchmarks: services wired by hand, without a Spring context.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET =
+            "dGVzdFNlY3JldEtleUZvckpXVFRva2VuR2VuZXJhdGlvblRoYXRTaG91bGRCZUF0TGVhc3QyNTZCaXRzTG9uZw==";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Create a JWT service signing with the given algorithm.
+     * ES256 uses a generated key pair, HS256 the test secret.
+     *
+     * @param algorithm ES256 or HS256
+     * @return the initialized JWT service
+     */
+    static JwtServiceImpl jwtService(String algorithm) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAlgorithm(algorithm);
+        if ("ES256".equals(algorithm)) {
+            KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+            JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+            key.setKid("bench");
+            key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+            properties.setActiveKid("bench");
+            properties.setKeys(List.of(key));
+        }
+        JwtKeyProvider keyProvider = new JwtKeyProvider(properties,
+                new MockEnvironment().withProperty("jwt.secret", JWT_SECRET));
+        ReflectionTestUtils.invokeMethod(keyProvider, "init");
+
+        JwtServiceImpl jwtService = new JwtServiceImpl(keyProvider, new AuthMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 1_800_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    /**
+     * Create a fully populated user with a primary address.
+     *
+     * @return the user
+     */
+    static User user() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .firstName("Bench")
+                .lastName("User")
+                .phoneNumber("+94771234567")
+                .dateOfBirth(LocalDate.of(1990, 1, 15))
+                .emailVerified(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        user.addAddress(UserAddress.builder()
+                .street("1 Main St")
+                .city("Colombo")
+                .state("WP")
+                .zipCode("00100")
+                .country("Sri Lanka")
+                .build());
+        return user;
+    }
+}
@@ -0,0 +1,53 @@
+package com.lifepill.user_auth.benchmark;
+
+import com.lifepill.user_auth.cache.IntrospectionCache;
+import com.lifepill.user_auth.dto.response.IntrospectionResponse;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.security.AccessTokenRevocationList;
+import com.lifepill.user_auth.service.impl.JwtServiceImpl;
+import com.lifepill.user_auth.service.impl.TokenIntrospectionServiceImpl;
+import com.lifepill.user_auth.service.impl.TokenRevocationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token introspection at high request rates from 8 threads: "cached" repeats one token
+ * (memoized after the first call), "uncached" verifies a fresh signature on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class IntrospectionBenchmark {
+
+    @Param({"cached", "uncached"})
+    private String mode;
+
+    private TokenIntrospectionServiceImpl introspectionService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtServiceImpl jwtService = BenchmarkFixtures.jwtService("ES256");
+        IntrospectionCache introspectionCache = new IntrospectionCache(meterRegistry);
+        ReflectionTestUtils.setField(introspectionCache, "maxSize", "cached".equals(mode) ? 50_000 : 0);
+        TokenRevocationServiceImpl revocationService = new TokenRevocationServiceImpl(
+                null, new AccessTokenRevocationList(meterRegistry), null, jwtService);
+
+        introspectionService = new TokenIntrospectionServiceImpl(jwtService, introspectionCache, revocationService);
+        User user = BenchmarkFixtures.user();
+        accessToken = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public IntrospectionResponse introspect() {
+        return introspectionService.introspect(accessToken);
+    }
+}
@@ -0,0 +1,45 @@
+package com.lifepill.user_auth.benchmark;
+
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token signing and verification per signature algorithm.
+ * Verification runs through the same parser and kid lookup as request authentication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"HS256", "ES256"})
+    private String algorithm;
+
+    private JwtServiceImpl jwtService;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService(algorithm);
+        user = BenchmarkFixtures.user();
+        accessToken = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtService.parseClaims(accessToken).orElseThrow();
+    }
+}
@@ -0,0 +1,58 @@
+package com.lifepill.user_auth.benchmark;
+
+import com.lifepill.user_auth.dto.response.AuthResponse;
+import com.lifepill.user_auth.dto.response.UserProfileResponse;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.mapper.UserMapStructMapper;
+import com.lifepill.user_auth.mapper.UserMapper;
+import com.lifepill.user_auth.mapper.UserModelMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the MapStruct mappings used at runtime with the former ModelMapper implementation.
+ * Run with the gc profiler (the default in the jmh profile) to see per-call allocation
+ * in gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private UserMapper mapStructMapper;
+    private UserModelMapper modelMapper;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        mapStructMapper = new UserMapper(Mappers.getMapper(UserMapStructMapper.class));
+        modelMapper = new UserModelMapper();
+
+        user = BenchmarkFixtures.user();
+    }
+
+    @Benchmark
+    public UserProfileResponse profileMapStruct() {
+        return mapStructMapper.toUserProfileResponse(user);
+    }
+
+    @Benchmark
+    public UserProfileResponse profileModelMapper() {
+        return modelMapper.toUserProfileResponse(user);
+    }
+
+    @Benchmark
+    public AuthResponse authMapStruct() {
+        return mapStructMapper.toAuthResponse(user, "access", "refresh");
+    }
+
+    @Benchmark
+    public AuthResponse authModelMapper() {
+        return modelMapper.toAuthResponse(user, "access", "refresh");
+    }
+}
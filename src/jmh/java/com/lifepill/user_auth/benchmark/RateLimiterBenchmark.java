@@ -0,0 +1,63 @@
+package com.lifepill.user_auth.benchmark;
+
+import com.lifepill.user_auth.cache.UnknownEmailCache;
+import com.lifepill.user_auth.config.RateLimiterConfig;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login rate limiting under contention from 8 threads.
+ * "shared" hammers one IP and account (one bucket pair, CAS contention); "spread" picks
+ * from many clients (map lookups and bucket creation). Limits are set high enough that
+ * no attempt is rejected, so warn logging does not distort the numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    @Param({"shared", "spread"})
+    private String keys;
+
+    private RateLimiterConfig rateLimiter;
+    private String[] ips;
+    private String[] emails;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UnknownEmailCache unknownEmailCache = new UnknownEmailCache(registry);
+        ReflectionTestUtils.setField(unknownEmailCache, "ttlSeconds", 120L);
+        ReflectionTestUtils.setField(unknownEmailCache, "maxSize", 100_000);
+
+        rateLimiter = new RateLimiterConfig(unknownEmailCache, new AuthMetrics(registry));
+        ReflectionTestUtils.setField(rateLimiter, "loginAttempts", Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(rateLimiter, "loginUserAttempts", Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(rateLimiter, "loginDurationMinutes", 1);
+
+        int clients = "shared".equals(keys) ? 1 : CLIENTS;
+        ips = new String[clients];
+        emails = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            ips[i] = "10.0." + (i / 256) + "." + (i % 256);
+            emails[i] = "user" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public boolean allowLoginAttempt() {
+        int i = ThreadLocalRandom.current().nextInt(ips.length);
+        return rateLimiter.allowLoginAttempt(ips[i], emails[i]);
+    }
+}
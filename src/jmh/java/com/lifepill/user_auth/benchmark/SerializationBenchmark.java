@@ -0,0 +1,47 @@
+package com.lifepill.user_auth.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifepill.user_auth.dto.response.ApiResponse;
+import com.lifepill.user_auth.dto.response.AuthResponse;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.mapper.UserMapStructMapper;
+import com.lifepill.user_auth.mapper.UserMapper;
+import com.lifepill.user_auth.service.impl.JwtServiceImpl;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the login/refresh response body, with an ObjectMapper built the
+ * way Spring Boot builds its default one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<AuthResponse> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        JwtServiceImpl jwtService = BenchmarkFixtures.jwtService("ES256");
+        User user = BenchmarkFixtures.user();
+        UserMapper userMapper = new UserMapper(Mappers.getMapper(UserMapStructMapper.class));
+        response = ApiResponse.success("Login successful", userMapper.toAuthResponse(user,
+                jwtService.generateAccessToken(user), jwtService.generateRefreshToken(user)));
+    }
+
+    @Benchmark
+    public byte[] serializeAuthResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,31 @@
+package com.lifepill.user_auth.benchmark;
+
+import com.lifepill.user_auth.util.TokenHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA-256 hashing of refresh tokens, as done by RefreshTokenServiceImpl on every lookup
+ * (and by introspection for its cache key).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenHashBenchmark {
+
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        refreshToken = BenchmarkFixtures.jwtService("ES256").generateRefreshToken(BenchmarkFixtures.user());
+    }
+
+    @Benchmark
+    public String hashRefreshToken() {
+        return TokenHasher.sha256(refreshToken);
+    }
+}
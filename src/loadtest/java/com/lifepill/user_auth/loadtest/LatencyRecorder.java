@@ -0,0 +1,95 @@
+package com.lifepill.user_auth.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts, safe to record from many threads.
+ */
+class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+    private record Endpoint(Histogram histogram, LongAdder errors) {
+    }
+
+    /**
+     * Record one request.
+     *
+     * @param endpoint the endpoint label
+     * @param elapsedNanos the request latency
+     * @param success whether the response status was the expected one
+     */
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint,
+                e -> new Endpoint(new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3), new LongAdder()));
+        stats.histogram().recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors().increment();
+        }
+    }
+
+    /**
+     * Print a per-endpoint summary table.
+     *
+     * @param elapsedSeconds wall-clock duration of the run
+     */
+    void print(double elapsedSeconds) {
+        System.out.printf("%n%-22s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        endpoints.forEach((name, stats) -> {
+            Histogram h = stats.histogram();
+            System.out.printf("%-22s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, h.getTotalCount(), stats.errors().sum(), h.getTotalCount() / elapsedSeconds,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()));
+        });
+    }
+
+    /**
+     * Write the summary as JSON, for comparison between runs.
+     *
+     * @param path the output file
+     * @param elapsedSeconds wall-clock duration of the run
+     * @param settings the run settings to include
+     * @throws IOException if the file cannot be written
+     */
+    void writeJson(Path path, double elapsedSeconds, Map<String, Object> settings) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        root.putPOJO("settings", settings);
+        root.put("elapsedSeconds", elapsedSeconds);
+        ArrayNode results = root.putArray("endpoints");
+        endpoints.forEach((name, stats) -> {
+            Histogram h = stats.histogram();
+            results.addObject()
+                    .put("endpoint", name)
+                    .put("requests", h.getTotalCount())
+                    .put("errors", stats.errors().sum())
+                    .put("throughput", h.getTotalCount() / elapsedSeconds)
+                    .put("p50Ms", millis(h.getValueAtPercentile(50)))
+                    .put("p90Ms", millis(h.getValueAtPercentile(90)))
+                    .put("p99Ms", millis(h.getValueAtPercentile(99)))
+                    .put("maxMs", millis(h.getMaxValue()));
+        });
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), root);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.lifepill.user_auth.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifepill.user_auth.UserAuthApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Self-contained end-to-end load test.
+ * <p>
+ * Boots the service against an embedded PostgreSQL (real Flyway migrations, LISTEN/NOTIFY)
+ * and an in-process SMTP sink, with Eureka, Config Server and tracing disabled, then drives
+ * complete user journeys (register, verify, login, profile polling, refresh, logout) and
+ * reports throughput and latency percentiles per endpoint. Needs no network access once the
+ * Maven dependencies are cached.
+ * <p>
+ * Journeys run on virtual threads when the JVM supports them (Java 21+), otherwise on a
+ * platform thread pool; either way at most {@code loadtest.concurrency} run at once.
+ * <p>
+ * {@code loadtest.virtual-threads=true} runs the service itself on virtual threads. The Maven
+ * profile fixes the heap size, so a run with and without it on the same Java 21 runtime compares
+ * throughput at equal memory; peak heap use and platform thread count are reported alongside.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 100);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 50);
+        int profilePolls = Integer.getInteger("loadtest.profile-polls", 10);
+        Path resultPath = Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             MailSink mailSink = new MailSink();
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(UserAuthApplication.class)
+                     .run(applicationArguments(postgres, mailSink, virtualThreads))) {
+
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            String baseUrl = "http://127.0.0.1:" + port + "/api";
+            System.out.printf("Service started on port %d; running %d journeys, %d concurrent (%s, virtual threads %s)%n",
+                    port, users, concurrency, Runtime.version(), virtualThreads ? "requested" : "off");
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            ObjectMapper objectMapper = new ObjectMapper();
+            Semaphore permits = new Semaphore(concurrency);
+
+            long start = System.nanoTime();
+            ExecutorService executor = newExecutor(concurrency);
+            for (int i = 0; i < users; i++) {
+                permits.acquire();
+                UserJourney journey = new UserJourney(httpClient, objectMapper, recorder, mailSink,
+                        baseUrl, i, profilePolls);
+                executor.execute(() -> {
+                    try {
+                        journey.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            recorder.print(elapsedSeconds);
+            long peakHeapUsed = peakHeapUsedBytes();
+            int peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+            System.out.printf("%nmax heap %d MB, peak heap used %d MB, peak platform threads %d%n",
+                    Runtime.getRuntime().maxMemory() >> 20, peakHeapUsed >> 20, peakThreads);
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("users", users);
+            settings.put("concurrency", concurrency);
+            settings.put("profilePolls", profilePolls);
+            settings.put("java", Runtime.version().toString());
+            settings.put("virtualThreads", virtualThreads);
+            settings.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+            settings.put("peakHeapUsedBytes", peakHeapUsed);
+            settings.put("peakPlatformThreads", peakThreads);
+            recorder.writeJson(resultPath, elapsedSeconds, settings);
+            System.out.println("Results written to " + resultPath.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Overrides passed as command line arguments, which take precedence over application.yml.
+     */
+    private static String[] applicationArguments(EmbeddedPostgres postgres, MailSink mailSink, boolean virtualThreads) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.mail.host", "127.0.0.1");
+        properties.put("spring.mail.port", mailSink.getPort());
+        properties.put("spring.mail.username", "no-reply@loadtest.local");
+        properties.put("spring.mail.password", "");
+        properties.put("spring.mail.properties.mail.smtp.auth", false);
+        properties.put("spring.mail.properties.mail.smtp.starttls.enable", false);
+        properties.put("jwt.secret", "bG9hZFRlc3RTZWNyZXRLZXlGb3JKV1RUb2tlbkdlbmVyYXRpb25UaGF0SXNBdExlYXN0MjU2Qml0cw==");
+        properties.put("eureka.client.enabled", false);
+        properties.put("spring.cloud.config.enabled", false);
+        properties.put("spring.cloud.discovery.enabled", false);
+        properties.put("management.tracing.enabled", false);
+        properties.put("management.health.mail.enabled", false);
+        properties.put("google.oauth.enabled", false);
+        properties.put("spring.devtools.restart.enabled", false);
+        // Every journey comes from its own address; limits only need to stay out of the way
+        properties.put("rate.limit.login.attempts", 1_000_000);
+        properties.put("rate.limit.register.attempts", 1_000_000);
+        properties.put("rate.limit.password-reset.attempts", 1_000_000);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.lifepill", "WARN");
+        properties.put("logging.file.name", "target/loadtest/user-auth.log");
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static long peakHeapUsedBytes() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        try {
+            // Resolved reflectively so the harness compiles for the project's Java 17 baseline
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(concurrency);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.lifepill.user_auth.loadtest;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process SMTP server that accepts every message, so verification links can be followed.
+ */
+class MailSink implements AutoCloseable {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("[?&]token=([A-Za-z0-9_\\-]+)");
+    private static final long TIMEOUT_MS = 30_000;
+
+    private final GreenMail greenMail;
+
+    MailSink() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        greenMail = new GreenMail(new ServerSetup(port, "127.0.0.1", ServerSetup.PROTOCOL_SMTP))
+                .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+        greenMail.start();
+    }
+
+    int getPort() {
+        return greenMail.getSmtp().getPort();
+    }
+
+    /**
+     * Wait for the verification email of a user and extract its token.
+     *
+     * @param email the recipient
+     * @return the verification token, or null if none arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    String awaitVerificationToken(String email) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            for (Message message : greenMail.getReceivedMessagesForDomain(email)) {
+                Matcher matcher = TOKEN_PATTERN.matcher(text(message));
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+            Thread.sleep(20);
+        }
+        return null;
+    }
+
+    private static String text(Object part) {
+        try {
+            Object content = part instanceof Message message ? message.getContent() : ((BodyPart) part).getContent();
+            if (content instanceof Multipart multipart) {
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < multipart.getCount(); i++) {
+                    text.append(text(multipart.getBodyPart(i)));
+                }
+                return text.toString();
+            }
+            return String.valueOf(content);
+        } catch (MessagingException | IOException e) {
+            return "";
+        }
+    }
+
+    @Override
+    public void close() {
+        greenMail.stop();
+    }
+}
@@ -0,0 +1,228 @@
+package com.lifepill.user_auth.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup time of the packaged service, from process launch until the readiness probe
+ * reports UP, against an embedded PostgreSQL that is already migrated.
+ * <p>
+ * Measures three modes in interleaved rounds: the default configuration, the fast-start
+ * profile, and the fast-start profile with a class-data-sharing archive created here by a
+ * training run (as the Docker image does). With {@code startup.aot} the jar, built with the
+ * native profile, is also started with its AOT initializers on the JVM, and with
+ * {@code startup.native-executable} the native image is measured as well. The resident set
+ * size is read once each run is ready. Eureka, Config Server and tracing are disabled, so the
+ * numbers only cover the service itself.
+ * <p>
+ * Meant for CI: {@code startup.max-ready-ms} fails the run when the median fast-start time
+ * with the archive exceeds it.
+ */
+public final class StartupTimeRunner {
+
+    private static final String READINESS_PATH = "/api/actuator/health/readiness";
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+
+    private StartupTimeRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar"));
+        int runs = Integer.getInteger("startup.runs", 3);
+        long maxReadyMs = Long.getLong("startup.max-ready-ms", 0);
+        String heap = System.getProperty("startup.heap", "512m");
+        Path workDir = Path.of(System.getProperty("startup.work-dir", "target/startup"));
+        Path resultPath = Path.of(System.getProperty("startup.result", "target/startup-result.json"));
+        boolean aot = Boolean.getBoolean("startup.aot");
+        String nativeExecutable = System.getProperty("startup.native-executable", "");
+
+        List<String> modes = new ArrayList<>(List.of("default", "fast-start", "fast-start+cds"));
+        if (aot) {
+            modes.add("aot");
+        }
+        if (!nativeExecutable.isBlank()) {
+            modes.add("native");
+        }
+
+        Files.createDirectories(workDir);
+        Path application = workDir.resolve("application");
+        run(workDir.resolve("extract.log"), List.of(java(), "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(),
+                "extract", "--force", "--destination", application.toAbsolutePath().toString(),
+                "--application-filename", "app.jar"));
+        Path appJar = application.resolve("app.jar");
+        Path archive = application.resolve("application.jsa");
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            List<String> properties = applicationArguments(postgres, workDir);
+
+            System.out.println("Migrating the schema");
+            timeToReady(workDir.resolve("migrate.log"), command("default", heap, archive, appJar, nativeExecutable, properties));
+
+            System.out.println("Creating the class-data-sharing archive");
+            List<String> training = new ArrayList<>(List.of(java(), "-XX:ArchiveClassesAtExit=" + archive,
+                    "-Dspring.context.exit=onRefresh", "-jar", appJar.toString(), "--spring.profiles.active=cds-training"));
+            training.add("--logging.file.name=" + workDir.resolve("user-auth.log"));
+            run(workDir.resolve("cds-training.log"), training);
+
+            Map<String, List<Long>> readyMs = new LinkedHashMap<>();
+            Map<String, List<Long>> rssKb = new LinkedHashMap<>();
+            for (int round = 1; round <= runs; round++) {
+                for (String mode : modes) {
+                    long[] measured = timeToReady(workDir.resolve(mode + "-" + round + ".log"),
+                            command(mode, heap, archive, appJar, nativeExecutable, properties));
+                    readyMs.computeIfAbsent(mode, key -> new ArrayList<>()).add(measured[0]);
+                    rssKb.computeIfAbsent(mode, key -> new ArrayList<>()).add(measured[1]);
+                    System.out.printf("round %d  %-15s %6d ms %8d kB%n", round, mode, measured[0], measured[1]);
+                }
+            }
+
+            System.out.printf("%n%-15s %10s %10s %12s%n", "mode", "median ms", "min ms", "median RSS kB");
+            Map<String, Object> summary = new LinkedHashMap<>();
+            readyMs.forEach((mode, times) -> {
+                System.out.printf("%-15s %10d %10d %12d%n", mode, median(times),
+                        times.stream().min(Long::compare).orElse(0L), median(rssKb.get(mode)));
+                summary.put(mode, Map.of("medianMs", median(times), "runsMs", times, "medianRssKb", median(rssKb.get(mode))));
+            });
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("java", Runtime.version().toString());
+            result.put("heap", heap);
+            result.put("runs", runs);
+            result.put("modes", summary);
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(resultPath.toFile(), result);
+            System.out.println("Results written to " + resultPath.toAbsolutePath());
+
+            long fastStartMedian = median(readyMs.get("fast-start+cds"));
+            if (maxReadyMs > 0 && fastStartMedian > maxReadyMs) {
+                System.err.printf("Fast start took %d ms, budget is %d ms%n", fastStartMedian, maxReadyMs);
+                System.exit(1);
+            }
+        }
+    }
+
+    private static List<String> applicationArguments(EmbeddedPostgres postgres, Path workDir) {
+        return List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--spring.mail.username=no-reply@startup.local",
+                "--spring.mail.password=",
+                "--jwt.secret=c3RhcnR1cFRpbWVTZWNyZXRLZXlGb3JKV1RUb2tlbkdlbmVyYXRpb25UaGF0SXNBdExlYXN0MjU2Qml0cw==",
+                "--eureka.client.enabled=false",
+                "--spring.cloud.discovery.enabled=false",
+                "--management.tracing.enabled=false",
+                "--management.health.mail.enabled=false",
+                "--logging.file.name=" + workDir.resolve("user-auth.log"));
+    }
+
+    private static List<String> command(String mode, String heap, Path archive, Path appJar, String nativeExecutable,
+                                        List<String> properties) throws IOException {
+        List<String> command = new ArrayList<>();
+        switch (mode) {
+            case "native" -> command.addAll(List.of(nativeExecutable, "-Xmx" + heap));
+            case "aot" -> command.addAll(List.of(java(), "-Xms" + heap, "-Xmx" + heap, "-Dspring.aot.enabled=true",
+                    "-jar", appJar.toString()));
+            case "fast-start+cds" -> command.addAll(List.of(java(), "-Xms" + heap, "-Xmx" + heap,
+                    "-XX:SharedArchiveFile=" + archive, "-jar", appJar.toString()));
+            default -> command.addAll(List.of(java(), "-Xms" + heap, "-Xmx" + heap, "-jar", appJar.toString()));
+        }
+        // The AOT modes run with the profiles they were built with
+        String profile = mode.startsWith("fast-start") ? "fast-start" : "default";
+        if (!mode.equals("aot") && !mode.equals("native")) {
+            command.add("--spring.profiles.active=" + profile);
+        }
+        command.add("--server.port=" + freePort());
+        command.addAll(properties);
+        return command;
+    }
+
+    /**
+     * Launch the service, wait until its readiness probe is UP, then stop it.
+     *
+     * @return milliseconds from launch to readiness, and the resident set size in kB at that
+     *         point (0 where /proc is not available)
+     */
+    private static long[] timeToReady(Path log, List<String> command) throws Exception {
+        String port = command.stream().filter(arg -> arg.startsWith("--server.port="))
+                .findFirst().orElseThrow().substring("--server.port=".length());
+        URI readiness = URI.create("http://127.0.0.1:" + port + READINESS_PATH);
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            while (System.nanoTime() - start < READY_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(readiness).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return new long[]{(System.nanoTime() - start) / 1_000_000, residentSetKb(process.pid())};
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("Service not ready within " + READY_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static long residentSetKb(long pid) {
+        try {
+            Matcher matcher = VM_RSS.matcher(Files.readString(Path.of("/proc", String.valueOf(pid), "status")));
+            return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void run(Path log, List<String> command) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        if (!process.waitFor(5, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Failed: " + String.join(" ", command) + ", see " + log);
+        }
+    }
+
+    private static long median(List<Long> values) {
+        long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        return sorted.length == 0 ? 0 : sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String java() {
+        // Same JVM as the runner; a class-data-sharing archive only works with the JVM that created it
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+}
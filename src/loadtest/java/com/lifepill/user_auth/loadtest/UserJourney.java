@@ -0,0 +1,126 @@
+package com.lifepill.user_auth.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One simulated mobile user: register, verify email, log in, poll the profile, refresh and log out.
+ * Every request is timed into the shared recorder; a failed step ends the journey.
+ */
+class UserJourney implements Runnable {
+
+    private static final String PASSWORD = "L0adTest!Pass";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final MailSink mailSink;
+    private final String baseUrl;
+    private final int index;
+    private final int profilePolls;
+
+    UserJourney(HttpClient httpClient, ObjectMapper objectMapper, LatencyRecorder recorder, MailSink mailSink,
+                String baseUrl, int index, int profilePolls) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.mailSink = mailSink;
+        this.baseUrl = baseUrl;
+        this.index = index;
+        this.profilePolls = profilePolls;
+    }
+
+    @Override
+    public void run() {
+        try {
+            String email = "load" + index + "-" + System.nanoTime() + "@loadtest.local";
+
+            post("register", "/v1/user/auth/register", Map.of(
+                    "email", email, "password", PASSWORD, "firstName", "Load", "lastName", "User" + index), null, 201);
+
+            long mailStart = System.nanoTime();
+            String verificationToken = mailSink.awaitVerificationToken(email);
+            recorder.record("verification-mail", System.nanoTime() - mailStart, verificationToken != null);
+            if (verificationToken == null) {
+                return;
+            }
+            post("verify-email", "/v1/user/auth/verify-email", Map.of("token", verificationToken), null, 200);
+
+            JsonNode login = post("login", "/v1/user/auth/login", Map.of("email", email, "password", PASSWORD), null, 200);
+            String accessToken = login.at("/data/accessToken").asText();
+            String refreshToken = login.at("/data/refreshToken").asText();
+
+            // Poll the way the app does: revalidate with the last ETag
+            String etag = null;
+            for (int i = 0; i < profilePolls; i++) {
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/user/profile"))
+                        .header("Authorization", "Bearer " + accessToken)
+                        .GET();
+                if (etag != null) {
+                    request.header("If-None-Match", etag);
+                }
+                HttpResponse<String> response = send("profile", request.build(),
+                        status -> status == 200 || status == 304);
+                etag = response.headers().firstValue("ETag").orElse(etag);
+            }
+
+            JsonNode refreshed = post("refresh-token", "/v1/user/auth/refresh-token",
+                    Map.of("refreshToken", refreshToken), null, 200);
+            post("logout", "/v1/user/auth/logout",
+                    Map.of("refreshToken", refreshed.at("/data/refreshToken").asText()),
+                    refreshed.at("/data/accessToken").asText(), 200);
+        } catch (JourneyFailedException e) {
+            // Already counted as an error on the failing endpoint
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JsonNode post(String endpoint, String path, Map<String, String> body, String accessToken, int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                // Distinct client address per user, as seen by the per-IP rate limiter
+                .header("X-Forwarded-For", "10." + (index >> 16 & 255) + "." + (index >> 8 & 255) + "." + (index & 255))
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        HttpResponse<String> response = send(endpoint, request.build(), status -> status == expectedStatus);
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request, Function<Integer, Boolean> expected)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            throw new JourneyFailedException();
+        }
+        boolean success = expected.apply(response.statusCode());
+        recorder.record(endpoint, System.nanoTime() - start, success);
+        if (!success) {
+            throw new JourneyFailedException();
+        }
+        return response;
+    }
+
+    private static class JourneyFailedException extends RuntimeException {
+        JourneyFailedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.lifepill.user_auth;
 
+import com.lifepill.user_auth.config.UserAuthRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main application class for the LifePill User Authentication Service.
@@ -18,14 +22,18 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
  * - Eureka service discovery integration
  * - Centralized configuration via Config Server
  * - Actuator endpoints for monitoring
+ * - Optional reactive server for token refresh and introspection
+ * - Native image build (Maven profile native)
  * 
  * Start Order: Service Registry -> Config Server -> User Auth Service
  * 
  * @author LifePill Team
  * @version 1.0.0
  */
-@SpringBootApplication
+// R2DBC is only used by the opt-in reactive token server, which configures its own pool
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 @EnableDiscoveryClient
+@ImportRuntimeHints(UserAuthRuntimeHints.class)
 public class UserAuthApplication {
 
 	public static void main(String[] args) {
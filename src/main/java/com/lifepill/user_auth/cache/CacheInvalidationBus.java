@@ -0,0 +1,318 @@
+package com.lifepill.user_auth.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cross-instance cache invalidation bus over PostgreSQL LISTEN/NOTIFY.
+ * <p>
+ * Events published inside a transaction are coalesced per topic and sent as one NOTIFY per
+ * topic just before commit, so other nodes only see committed changes; local caches are
+ * updated after commit. A listener thread holds a dedicated (unpooled) connection, coalesces
+ * each batch of received notifications per topic and dispatches them to the registered
+ * {@link CacheInvalidationListener}s. Notifications sent while it was disconnected are lost,
+ * so every reconnect triggers a full flush of all registered caches.
+ * <p>
+ * On databases other than PostgreSQL, or when disabled, events are only applied locally.
+ */
+@Slf4j
+@Component
+@RegisterReflectionForBinding(CacheInvalidationBus.Message.class)
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    /**
+     * A user row or its addresses changed; key is the user ID.
+     */
+    public static final String TOPIC_USER = "user";
+
+    /**
+     * An email was registered; key is the canonical email.
+     */
+    public static final String TOPIC_EMAIL_REGISTERED = "email-registered";
+
+    /**
+     * An access token revocation was recorded; key is the encoded revocation.
+     */
+    public static final String TOPIC_ACCESS_TOKEN_REVOKED = "access-token-revoked";
+
+    private static final String CHANNEL = "cache_invalidation";
+    // NOTIFY payloads are limited to 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7000;
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<CacheInvalidationListener> listeners;
+    private final ObjectMapper objectMapper;
+    private final Timer lagTimer;
+    private final Counter receivedCounter;
+    private final Counter flushCounter;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean running;
+    private volatile boolean propagating;
+    private Thread listenerThread;
+
+    /**
+     * Wire format of a notification.
+     */
+    record Message(String node, long sentAt, String topic, List<String> keys) {
+    }
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                DataSourceProperties dataSourceProperties,
+                                ObjectProvider<CacheInvalidationListener> listeners,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.listeners = listeners;
+        this.objectMapper = objectMapper;
+        this.lagTimer = Timer.builder("cache.invalidation.lag")
+                .description("Delay between publishing an invalidation and applying it on this node")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cache.invalidation.received")
+                .description("Invalidation notifications received from other nodes")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder("cache.invalidation.flushes")
+                .description("Full cache flushes after listener reconnects")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish a change event. Inside a transaction it is sent on commit (and dropped on
+     * rollback); otherwise it is sent and applied immediately.
+     *
+     * @param topic the topic
+     * @param key the changed key
+     */
+    public void publish(String topic, String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<String, Set<String>> events = Map.of(topic, Set.of(key));
+            send(events);
+            dispatch(events);
+            return;
+        }
+
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.computeIfAbsent(topic, t -> new LinkedHashSet<>()).add(key);
+    }
+
+    /**
+     * Events collected in the current transaction, coalesced per topic.
+     */
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final Map<String, Set<String>> events = new LinkedHashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Sent inside the transaction: PostgreSQL delivers it only if the commit succeeds
+            send(events);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+            if (status == STATUS_COMMITTED) {
+                dispatch(events);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!enabled || !dataSourceProperties.determineUrl().startsWith("jdbc:postgresql:")) {
+            log.info("Cache invalidation bus running in local-only mode");
+            return;
+        }
+        propagating = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        propagating = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void send(Map<String, Set<String>> events) {
+        if (!propagating) {
+            return;
+        }
+        long sentAt = System.currentTimeMillis();
+        events.forEach((topic, keys) -> {
+            for (List<String> chunk : chunk(keys)) {
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                        CHANNEL, serialize(new Message(nodeId, sentAt, topic, chunk)));
+            }
+        });
+    }
+
+    private void dispatch(Map<String, ? extends Collection<String>> events) {
+        for (CacheInvalidationListener listener : listeners) {
+            Collection<String> keys = events.get(listener.topic());
+            if (keys != null && !keys.isEmpty()) {
+                try {
+                    listener.invalidate(keys);
+                } catch (RuntimeException e) {
+                    log.error("Cache invalidation failed for topic '{}'", listener.topic(), e);
+                }
+            }
+        }
+    }
+
+    private void flushAll() {
+        flushCounter.increment();
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.invalidateAll();
+            } catch (RuntimeException e) {
+                log.error("Cache flush failed for topic '{}'", listener.topic(), e);
+            }
+        }
+    }
+
+    private void listen() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnect) {
+                    log.info("Cache invalidation listener reconnected; flushing local caches");
+                    flushAll();
+                }
+                log.info("Listening for cache invalidations on channel '{}'", CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        receive(notifications);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                reconnect = true;
+                log.warn("Cache invalidation listener disconnected, reconnecting in {} ms: {}",
+                        RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(PGNotification[] notifications) {
+        // Coalesce the whole batch so each cache sees every changed key once
+        Map<String, Set<String>> events = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        for (PGNotification notification : notifications) {
+            Message message = deserialize(notification.getParameter());
+            if (message == null || nodeId.equals(message.node())) {
+                continue; // Own events were already applied locally after commit
+            }
+            receivedCounter.increment();
+            lagTimer.record(Duration.ofMillis(Math.max(0, now - message.sentAt())));
+            events.computeIfAbsent(message.topic(), t -> new LinkedHashSet<>()).addAll(message.keys());
+        }
+        dispatch(events);
+    }
+
+    private List<List<String>> chunk(Set<String> keys) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int size = 0;
+        for (String key : keys) {
+            int keySize = key.getBytes(StandardCharsets.UTF_8).length + 3;
+            if (!current.isEmpty() && size + keySize > MAX_PAYLOAD_BYTES) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                size = 0;
+            }
+            current.add(key);
+            size += keySize;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private String serialize(Message message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cache invalidation", e);
+        }
+    }
+
+    private Message deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, Message.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return null;
+        }
+    }
+}
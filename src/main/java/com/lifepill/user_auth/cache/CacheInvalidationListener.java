@@ -0,0 +1,30 @@
+package com.lifepill.user_auth.cache;
+
+import java.util.Collection;
+
+/**
+ * A local cache subscribed to one topic of the {@link CacheInvalidationBus}.
+ * Implementations are discovered as beans and must be thread-safe: callbacks run on the
+ * bus listener thread, or on the publishing thread after commit for local changes.
+ */
+public interface CacheInvalidationListener {
+
+    /**
+     * Get the topic this cache subscribes to.
+     *
+     * @return the topic name
+     */
+    String topic();
+
+    /**
+     * Apply a coalesced batch of change events.
+     *
+     * @param keys the distinct keys that changed
+     */
+    void invalidate(Collection<String> keys);
+
+    /**
+     * Drop or rebuild all entries, because events may have been missed.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,84 @@
+package com.lifepill.user_auth.cache;
+
+import com.lifepill.user_auth.dto.response.IntrospectionResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes introspection results of active tokens, keyed by token hash, until the token expires.
+ * Repeated introspection of the same token (the common case behind a gateway) then costs a
+ * SHA-256 and a map lookup instead of a signature verification.
+ */
+@Slf4j
+@Component
+public class IntrospectionCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${cache.introspection.max-size:50000}")
+    private int maxSize;
+
+    private record Entry(IntrospectionResponse response, long expiresAtEpochSecond) {
+    }
+
+    public IntrospectionCache(MeterRegistry meterRegistry) {
+        Gauge.builder("cache.introspection.size", entries, Map::size)
+                .description("Number of memoized token introspection results")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the memoized result for a token that has not expired yet.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @return the cached response, or null if absent or expired
+     */
+    public IntrospectionResponse get(String tokenHash) {
+        Entry entry = entries.get(tokenHash);
+        if (entry == null) {
+            return null;
+        }
+        if (Instant.now().getEpochSecond() >= entry.expiresAtEpochSecond()) {
+            entries.remove(tokenHash, entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    /**
+     * Memoize the result for an active token until its expiry.
+     * Ignored once the cache is full until expired entries are cleaned up.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @param response the active introspection response (must carry exp)
+     */
+    public void put(String tokenHash, IntrospectionResponse response) {
+        if (entries.size() < maxSize) {
+            entries.put(tokenHash, new Entry(response, response.getExp()));
+        }
+    }
+
+    /**
+     * Periodically remove expired entries.
+     * Runs every minute.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void cleanupExpiredEntries() {
+        long now = Instant.now().getEpochSecond();
+        int initialSize = entries.size();
+        entries.values().removeIf(entry -> now >= entry.expiresAtEpochSecond());
+
+        int removed = initialSize - entries.size();
+        if (removed > 0) {
+            log.debug("Cleaned up {} expired introspection entries", removed);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.lifepill.user_auth.cache;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.util.EmailAddress;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of registered emails.
+ * A negative answer is definitive, so lookups for unknown emails (e.g. enumeration floods
+ * against forgot-password) can be rejected without a database query. Positive answers may be
+ * false positives and must still be confirmed against the database.
+ * <p>
+ * Registrations on any instance are added through the invalidation bus. Bloom filters cannot
+ * remove entries: deleted accounts remain as false positives until the next periodic rebuild.
+ * Until the first build completes, or when disabled, every email is reported as possibly known.
+ */
+@Slf4j
+@Component
+public class KnownEmailFilter implements CacheInvalidationListener {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${cache.known-email-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.known-email-filter.expected-insertions:1000000}")
+    private int expectedInsertions;
+
+    @Value("${cache.known-email-filter.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter<CharSequence> filter;
+
+    // Filter being rebuilt; receives concurrent puts so no registration is lost by the swap
+    private volatile BloomFilter<CharSequence> pending;
+
+    // A lock rather than synchronized: the rebuild blocks on JDBC, which would pin a virtual thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public KnownEmailFilter(UserRepository userRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("cache.known_email_filter.expected_fpp", this,
+                        f -> f.filter != null ? f.filter.expectedFpp() : 0)
+                .description("Current expected false-positive probability of the known email filter")
+                .register(meterRegistry);
+        Gauge.builder("cache.known_email_filter.approximate_elements", this,
+                        f -> f.filter != null ? f.filter.approximateElementCount() : 0)
+                .description("Approximate number of distinct emails in the known email filter")
+                .register(meterRegistry);
+        Gauge.builder("cache.known_email_filter.memory", this,
+                        f -> f.filter != null ? f.estimatedMemoryBytes() : 0)
+                .description("Estimated size of the known email filter bit array")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether an email may belong to a registered user.
+     *
+     * @param email the canonical email
+     * @return false only if the email is definitely not registered
+     */
+    public boolean mightContain(EmailAddress email) {
+        BloomFilter<CharSequence> current = filter;
+        return current == null || current.mightContain(email.getValue());
+    }
+
+    /**
+     * Record a newly registered email.
+     *
+     * @param email the canonical email
+     */
+    public void put(EmailAddress email) {
+        BloomFilter<CharSequence> current = filter;
+        if (current != null) {
+            current.put(email.getValue());
+        }
+        BloomFilter<CharSequence> building = pending;
+        if (building != null) {
+            building.put(email.getValue());
+        }
+    }
+
+    @Override
+    public String topic() {
+        return CacheInvalidationBus.TOPIC_EMAIL_REGISTERED;
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        keys.forEach(key -> put(EmailAddress.of(key)));
+    }
+
+    @Override
+    public void invalidateAll() {
+        rebuild();
+    }
+
+    /**
+     * Build the filter once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Periodically rebuild the filter to drop deleted accounts and reset saturation.
+     */
+    @Scheduled(cron = "${cache.known-email-filter.rebuild-cron:0 0 */6 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        long start = System.currentTimeMillis();
+        BloomFilter<CharSequence> building = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+        pending = building;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.forEach(building::put);
+                }
+            });
+            filter = building;
+            log.info("Known email filter rebuilt with ~{} emails in {} ms",
+                    building.approximateElementCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Keep serving from the previous filter (or the database if none was built)
+            log.error("Failed to rebuild known email filter", e);
+        } finally {
+            pending = null;
+        }
+    }
+
+    private long estimatedMemoryBytes() {
+        // Optimal bit count for the configured capacity and false-positive rate
+        double bits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        return (long) Math.ceil(bits / Byte.SIZE);
+    }
+}
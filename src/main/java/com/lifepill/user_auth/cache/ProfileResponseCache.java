@@ -0,0 +1,104 @@
+package com.lifepill.user_auth.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized profile responses per user, tagged with the profile ETag they were rendered from.
+ * A hit is only served when its ETag matches the current version, so a missed invalidation can
+ * never serve a stale profile; invalidation on user changes just frees the memory early.
+ */
+@Slf4j
+@Component
+public class ProfileResponseCache implements CacheInvalidationListener {
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${cache.profile.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${cache.profile.max-size:10000}")
+    private int maxSize;
+
+    private record Entry(String etag, byte[] body, long expiresAtEpochSecond) {
+    }
+
+    public ProfileResponseCache(MeterRegistry meterRegistry) {
+        Gauge.builder("cache.profile.size", entries, Map::size)
+                .description("Number of cached serialized profile responses")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the cached response body for a user if it was rendered from the given version.
+     *
+     * @param userId the user ID
+     * @param etag the current profile ETag
+     * @return the serialized response, or null if absent, outdated or expired
+     */
+    public byte[] get(UUID userId, String etag) {
+        Entry entry = entries.get(userId);
+        if (entry == null || !entry.etag().equals(etag)) {
+            return null;
+        }
+        if (Instant.now().getEpochSecond() >= entry.expiresAtEpochSecond()) {
+            entries.remove(userId, entry);
+            return null;
+        }
+        return entry.body();
+    }
+
+    /**
+     * Cache a serialized response. Ignored once the cache is full until expired entries are cleaned up.
+     *
+     * @param userId the user ID
+     * @param etag the profile ETag the response was rendered from
+     * @param body the serialized response
+     */
+    public void put(UUID userId, String etag, byte[] body) {
+        if (entries.size() < maxSize || entries.containsKey(userId)) {
+            entries.put(userId, new Entry(etag, body, Instant.now().getEpochSecond() + ttlSeconds));
+        }
+    }
+
+    @Override
+    public String topic() {
+        return CacheInvalidationBus.TOPIC_USER;
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        keys.forEach(key -> entries.remove(UUID.fromString(key)));
+    }
+
+    @Override
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Periodically remove expired entries.
+     * Runs every minute.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void cleanupExpiredEntries() {
+        long now = Instant.now().getEpochSecond();
+        int initialSize = entries.size();
+        entries.values().removeIf(entry -> now >= entry.expiresAtEpochSecond());
+
+        int removed = initialSize - entries.size();
+        if (removed > 0) {
+            log.debug("Cleaned up {} expired profile responses", removed);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.lifepill.user_auth.cache;
+
+import com.lifepill.user_auth.util.EmailAddress;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived, size-bounded cache of emails that recently failed a login lookup.
+ * Lets repeated credential-stuffing attempts against non-existent accounts skip the
+ * database. Entries are invalidated on every instance when the email is registered.
+ */
+@Slf4j
+@Component
+public class UnknownEmailCache implements CacheInvalidationListener {
+
+    private final Map<EmailAddress, Instant> entries = new ConcurrentHashMap<>();
+
+    @Value("${cache.unknown-email.ttl-seconds:120}")
+    private long ttlSeconds;
+
+    @Value("${cache.unknown-email.max-size:100000}")
+    private int maxSize;
+
+    public UnknownEmailCache(MeterRegistry meterRegistry) {
+        Gauge.builder("cache.unknown_email.size", entries, Map::size)
+                .description("Number of emails cached as recently unknown")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether an email recently failed a lookup and has not expired.
+     *
+     * @param email the canonical email
+     * @return true if the email is known not to exist
+     */
+    public boolean contains(EmailAddress email) {
+        Instant expiresAt = entries.get(email);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (Instant.now().isAfter(expiresAt)) {
+            entries.remove(email, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record a failed lookup. Ignored once the cache is full until expired entries are cleaned up,
+     * so a flood of random emails cannot grow the cache without bound.
+     *
+     * @param email the canonical email
+     */
+    public void put(EmailAddress email) {
+        if (entries.size() < maxSize) {
+            entries.put(email, Instant.now().plus(Duration.ofSeconds(ttlSeconds)));
+        }
+    }
+
+    /**
+     * Remove an email, e.g. when it has just been registered.
+     *
+     * @param email the canonical email
+     */
+    public void invalidate(EmailAddress email) {
+        entries.remove(email);
+    }
+
+    @Override
+    public String topic() {
+        return CacheInvalidationBus.TOPIC_EMAIL_REGISTERED;
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        keys.forEach(key -> invalidate(EmailAddress.of(key)));
+    }
+
+    @Override
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Periodically remove expired entries.
+     * Runs every minute.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void cleanupExpiredEntries() {
+        Instant now = Instant.now();
+        int initialSize = entries.size();
+        entries.values().removeIf(now::isAfter);
+
+        int removed = initialSize - entries.size();
+        if (removed > 0) {
+            log.debug("Cleaned up {} expired unknown email entries", removed);
+        }
+    }
+}
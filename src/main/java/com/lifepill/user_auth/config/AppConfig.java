@@ -1,14 +1,38 @@
 package com.lifepill.user_auth.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Application configuration for async and scheduled tasks.
+ * Executors come from Spring Boot, so {@code spring.threads.virtual.enabled} moves requests,
+ * async mail and scheduled jobs to virtual threads on a Java 21+ runtime.
  */
+@Slf4j
 @Configuration
 @EnableAsync
 @EnableScheduling
 public class AppConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+
+    /**
+     * Report the threading mode, since Spring Boot silently ignores the virtual thread flag on older runtimes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode(ApplicationReadyEvent event) {
+        if (Threading.VIRTUAL.isActive(event.getApplicationContext().getEnvironment())) {
+            log.info("Serving requests, async mail and scheduled jobs on virtual threads");
+        } else if (virtualThreadsRequested) {
+            log.warn("Virtual threads requested but the runtime is Java {}; they need Java 21+, using platform threads",
+                    Runtime.version().feature());
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.lifepill.user_auth.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT signing configuration.
+ * New tokens are signed with the key named by {@code active-kid}; every other configured key only
+ * verifies tokens until its {@code retire-at}. Public keys are published at
+ * {@code /.well-known/jwks.json} so consumers can verify tokens locally.
+ * <p>
+ * Rotation: add the new key, wait for {@code jwks-max-age-seconds} so consumers have fetched it,
+ * then switch {@code active-kid} and give the old key a {@code retire-at} at least
+ * {@code rotation-overlap} ahead in the same change; remove it after that instant. Changes apply
+ * on {@code /actuator/refresh}, and a rotation that removes the old key or retires it earlier is
+ * rejected.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    /**
+     * Signing algorithm: HS256 (shared secret) or ES256 (P-256 key pairs).
+     */
+    private String algorithm = "HS256";
+
+    /**
+     * Key ID of the key used to sign new tokens. In HS256 mode, falls back to jwt.secret
+     * (without a kid header) when no key with a secret matches.
+     */
+    private String activeKid;
+
+    /**
+     * Whether tokens without a kid, signed with jwt.secret, are still accepted in ES256 mode.
+     * Keep enabled until all HMAC-signed refresh tokens have expired after switching.
+     */
+    private boolean acceptLegacyHmac = true;
+
+    /**
+     * Development only: in ES256 mode, sign with a generated key when no private key matches
+     * {@code active-kid} instead of failing startup. Such tokens do not survive a restart and
+     * do not verify on other instances.
+     */
+    private boolean allowEphemeralKey = false;
+
+    /**
+     * Max-age, in seconds, advertised on the JWKS response.
+     */
+    private long jwksMaxAgeSeconds = 86400;
+
+    /**
+     * Minimum time between a rotation and the retire-at of the previously active key.
+     * Should cover the longest token lifetime (the refresh token).
+     */
+    private Duration rotationOverlap = Duration.ofDays(7);
+
+    /**
+     * Signing and verification keys, selected by kid.
+     */
+    private List<Key> keys = new ArrayList<>();
+
+    /**
+     * A P-256 key pair (ES256) or a shared secret (HS256).
+     * EC keys are Base64-encoded DER (PKCS#8 private, X.509 public), PEM armor optional.
+     */
+    @Data
+    public static class Key {
+
+        private String kid;
+
+        /**
+         * EC private key; only required for the active ES256 signing key.
+         */
+        private String privateKey;
+
+        private String publicKey;
+
+        /**
+         * Base64-encoded HMAC secret for HS256 keys.
+         */
+        private String secret;
+
+        /**
+         * Instant after which the key no longer verifies tokens (optional).
+         */
+        private Instant retireAt;
+    }
+}
@@ -1,34 +0,0 @@
-package com.lifepill.user_auth.config;
-
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-/**
- * Configuration for ModelMapper bean.
- * Provides customized ModelMapper instance for flexible object mapping.
- */
-@Configuration
-public class ModelMapperConfig {
-
-    /**
-     * Create and configure ModelMapper bean.
-     *
-     * @return configured ModelMapper instance
-     */
-    @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
-
-        // Configure matching strategy
-        modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT)
-                .setFieldMatchingEnabled(true)
-                .setSkipNullEnabled(true)
-                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
-                .setAmbiguityIgnored(true);
-
-        return modelMapper;
-    }
-}
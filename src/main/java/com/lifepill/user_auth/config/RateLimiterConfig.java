@@ -1,8 +1,13 @@
 package com.lifepill.user_auth.config;
 
+import com.lifepill.user_auth.cache.UnknownEmailCache;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import com.lifepill.user_auth.util.EmailAddress;
+import com.lifepill.user_auth.util.LogMasking;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -27,8 +32,12 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RateLimiterConfig {
 
+    private final UnknownEmailCache unknownEmailCache;
+    private final AuthMetrics authMetrics;
+
     @Value("${rate.limit.login.attempts}")
     private int loginAttempts;
 
@@ -54,14 +63,24 @@ public class RateLimiterConfig {
     @Value("${rate.limit.register.email-attempts:5}")
     private int registerEmailAttempts;
 
+    // Introspection is limited per client and per token, so a batch costs as much as its size
+    @Value("${rate.limit.introspect.tokens:60000}")
+    private int introspectTokens;
+
+    @Value("${rate.limit.introspect.duration-minutes:1}")
+    private int introspectDurationMinutes;
+
     // IP-based buckets
     private final Map<String, BucketWrapper> loginIpBuckets = new ConcurrentHashMap<>();
     private final Map<String, BucketWrapper> registerIpBuckets = new ConcurrentHashMap<>();
     
     // User/Email-based buckets
-    private final Map<String, BucketWrapper> loginUserBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketWrapper> registerEmailBuckets = new ConcurrentHashMap<>();
-    private final Map<String, BucketWrapper> passwordResetBuckets = new ConcurrentHashMap<>();
+    private final Map<EmailAddress, BucketWrapper> loginUserBuckets = new ConcurrentHashMap<>();
+    private final Map<EmailAddress, BucketWrapper> registerEmailBuckets = new ConcurrentHashMap<>();
+    private final Map<EmailAddress, BucketWrapper> passwordResetBuckets = new ConcurrentHashMap<>();
+
+    // Introspection client buckets
+    private final Map<String, BucketWrapper> introspectClientBuckets = new ConcurrentHashMap<>();
 
     /**
      * Wrapper class to track bucket creation time for cleanup.
@@ -89,14 +108,21 @@ public class RateLimiterConfig {
      * @return true if allowed, false if rate limited
      */
     public boolean allowLoginAttempt(String ip, String email) {
+        return authMetrics.recordCheck(AuthMetrics.PHASE_RATE_LIMIT, AuthMetrics.OPERATION_LOGIN,
+                () -> checkLoginAttempt(ip, email));
+    }
+
+    private boolean checkLoginAttempt(String ip, String email) {
         boolean ipAllowed = getLoginIpBucket(ip).tryConsume(1);
-        boolean userAllowed = getLoginUserBucket(email).tryConsume(1);
+        // Emails known not to exist have no account to protect; don't allocate a bucket per guess
+        boolean userAllowed = unknownEmailCache.contains(EmailAddress.of(email))
+                || getLoginUserBucket(email).tryConsume(1);
         
         if (!ipAllowed) {
-            log.warn("Login rate limit exceeded for IP: {}", maskIp(ip));
+            log.warn("Login rate limit exceeded for IP: {}", LogMasking.maskIp(ip));
         }
         if (!userAllowed) {
-            log.warn("Login rate limit exceeded for user: {}", maskEmail(email));
+            log.warn("Login rate limit exceeded for user: {}", LogMasking.maskEmail(email));
         }
         
         return ipAllowed && userAllowed;
@@ -115,7 +141,7 @@ public class RateLimiterConfig {
      * More lenient than IP-based to avoid blocking legitimate users on shared networks.
      */
     private Bucket getLoginUserBucket(String email) {
-        return loginUserBuckets.computeIfAbsent(email.toLowerCase(), 
+        return loginUserBuckets.computeIfAbsent(EmailAddress.of(email), 
             k -> new BucketWrapper(createBucket(loginUserAttempts, loginDurationMinutes))).bucket;
     }
 
@@ -128,14 +154,19 @@ public class RateLimiterConfig {
      * @return true if allowed, false if rate limited
      */
     public boolean allowRegisterAttempt(String ip, String email) {
+        return authMetrics.recordCheck(AuthMetrics.PHASE_RATE_LIMIT, AuthMetrics.OPERATION_REGISTER,
+                () -> checkRegisterAttempt(ip, email));
+    }
+
+    private boolean checkRegisterAttempt(String ip, String email) {
         boolean ipAllowed = getRegisterIpBucket(ip).tryConsume(1);
         boolean emailAllowed = getRegisterEmailBucket(email).tryConsume(1);
         
         if (!ipAllowed) {
-            log.warn("Registration rate limit exceeded for IP: {}", maskIp(ip));
+            log.warn("Registration rate limit exceeded for IP: {}", LogMasking.maskIp(ip));
         }
         if (!emailAllowed) {
-            log.warn("Registration rate limit exceeded for email: {}", maskEmail(email));
+            log.warn("Registration rate limit exceeded for email: {}", LogMasking.maskEmail(email));
         }
         
         return ipAllowed && emailAllowed;
@@ -154,7 +185,7 @@ public class RateLimiterConfig {
      * Prevents repeated registration attempts with the same email.
      */
     private Bucket getRegisterEmailBucket(String email) {
-        return registerEmailBuckets.computeIfAbsent(email.toLowerCase(), 
+        return registerEmailBuckets.computeIfAbsent(EmailAddress.of(email), 
             k -> new BucketWrapper(createBucket(registerEmailAttempts, registerDurationMinutes))).bucket;
     }
 
@@ -167,14 +198,19 @@ public class RateLimiterConfig {
      * @return true if allowed, false if rate limited
      */
     public boolean allowPasswordResetAttempt(String ip, String email) {
+        return authMetrics.recordCheck(AuthMetrics.PHASE_RATE_LIMIT, AuthMetrics.OPERATION_PASSWORD_RESET,
+                () -> checkPasswordResetAttempt(ip, email));
+    }
+
+    private boolean checkPasswordResetAttempt(String ip, String email) {
         boolean ipAllowed = getLoginIpBucket(ip).tryConsume(1); // Reuse login IP bucket
         boolean emailAllowed = getPasswordResetBucket(email).tryConsume(1);
         
         if (!ipAllowed) {
-            log.warn("Password reset rate limit exceeded for IP: {}", maskIp(ip));
+            log.warn("Password reset rate limit exceeded for IP: {}", LogMasking.maskIp(ip));
         }
         if (!emailAllowed) {
-            log.warn("Password reset rate limit exceeded for email: {}", maskEmail(email));
+            log.warn("Password reset rate limit exceeded for email: {}", LogMasking.maskEmail(email));
         }
         
         return ipAllowed && emailAllowed;
@@ -184,10 +220,41 @@ public class RateLimiterConfig {
      * Get or create rate limiter bucket for password reset attempts by email.
      */
     private Bucket getPasswordResetBucket(String email) {
-        return passwordResetBuckets.computeIfAbsent(email.toLowerCase(), 
+        return passwordResetBuckets.computeIfAbsent(EmailAddress.of(email), 
             k -> new BucketWrapper(createBucket(passwordResetAttempts, passwordResetDurationMinutes))).bucket;
     }
 
+    /**
+     * Check if an introspection request is allowed for a client.
+     * Each token in the request consumes one permit.
+     *
+     * @param clientId the authenticated introspection client
+     * @param tokenCount the number of tokens in the request
+     * @return true if allowed, false if rate limited
+     */
+    public boolean allowIntrospection(String clientId, int tokenCount) {
+        return authMetrics.recordCheck(AuthMetrics.PHASE_RATE_LIMIT, AuthMetrics.OPERATION_INTROSPECT,
+                () -> checkIntrospection(clientId, tokenCount));
+    }
+
+    private boolean checkIntrospection(String clientId, int tokenCount) {
+        boolean allowed = getIntrospectClientBucket(clientId).tryConsume(Math.max(1, tokenCount));
+
+        if (!allowed) {
+            log.warn("Introspection rate limit exceeded for client: {}", clientId);
+        }
+
+        return allowed;
+    }
+
+    /**
+     * Get or create rate limiter bucket for an introspection client.
+     */
+    private Bucket getIntrospectClientBucket(String clientId) {
+        return introspectClientBuckets.computeIfAbsent(clientId,
+            k -> new BucketWrapper(createBucket(introspectTokens, introspectDurationMinutes))).bucket;
+    }
+
     /**
      * Create a new bucket with the specified capacity and refill duration.
      *
@@ -225,30 +292,6 @@ public class RateLimiterConfig {
         return getRegisterIpBucket(ip).getAvailableTokens();
     }
 
-    /**
-     * Mask IP address for logging (privacy protection).
-     */
-    private String maskIp(String ip) {
-        if (ip == null || ip.isEmpty()) return "unknown";
-        int lastDot = ip.lastIndexOf('.');
-        if (lastDot > 0) {
-            return ip.substring(0, lastDot) + ".***";
-        }
-        return "***";
-    }
-
-    /**
-     * Mask email for logging (privacy protection).
-     */
-    private String maskEmail(String email) {
-        if (email == null || email.isEmpty()) return "unknown";
-        int atIndex = email.indexOf('@');
-        if (atIndex > 2) {
-            return email.substring(0, 2) + "***" + email.substring(atIndex);
-        }
-        return "***" + email.substring(atIndex);
-    }
-
     /**
      * Periodically clean up expired buckets to prevent memory leaks.
      * Runs every hour.
@@ -262,13 +305,14 @@ public class RateLimiterConfig {
         removed += cleanupMap(registerIpBuckets, maxAge);
         removed += cleanupMap(registerEmailBuckets, maxAge);
         removed += cleanupMap(passwordResetBuckets, maxAge);
+        removed += cleanupMap(introspectClientBuckets, maxAge);
         
         if (removed > 0) {
             log.info("Cleaned up {} expired rate limit buckets", removed);
         }
     }
 
-    private int cleanupMap(Map<String, BucketWrapper> map, Duration maxAge) {
+    private int cleanupMap(Map<?, BucketWrapper> map, Duration maxAge) {
         int initialSize = map.size();
         map.entrySet().removeIf(entry -> entry.getValue().isExpired(maxAge));
         return initialSize - map.size();
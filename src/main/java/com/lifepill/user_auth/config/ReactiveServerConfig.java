@@ -0,0 +1,191 @@
+package com.lifepill.user_auth.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifepill.user_auth.controller.ReactiveAuthHandler;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.WebFilter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * Reactive token server: the refresh-token and introspect endpoints on Reactor Netty and R2DBC,
+ * on a port of their own next to the servlet stack.
+ * <p>
+ * Refresh is the highest-volume call from the mobile apps and is only I/O plus cheap crypto, so
+ * a few event-loop threads and a small R2DBC pool serve it instead of Tomcat worker threads each
+ * holding a Hikari connection. A gateway selects the stack per route by port; both share the
+ * refresh_tokens table and the signing keys, so clients can move between them at any time.
+ * Everything else is served by the servlet stack only.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+public class ReactiveServerConfig {
+
+    private static final String[] ROUTES = {"/refresh-token", "/introspect"};
+
+    @Value("${reactive.server.port:8081}")
+    private int port;
+
+    @Value("${reactive.server.event-loop-threads:4}")
+    private int eventLoopThreads;
+
+    @Value("${reactive.r2dbc.url}")
+    private String r2dbcUrl;
+
+    @Value("${reactive.r2dbc.username:${spring.datasource.username:}}")
+    private String r2dbcUsername;
+
+    @Value("${reactive.r2dbc.password:${spring.datasource.password:}}")
+    private String r2dbcPassword;
+
+    @Value("${reactive.r2dbc.pool.max-size:10}")
+    private int poolMaxSize;
+
+    @Value("${reactive.r2dbc.pool.max-acquire-time-ms:30000}")
+    private long poolMaxAcquireTimeMs;
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * Client over an R2DBC connection pool that is separate from (and not counted against) the
+     * Hikari pool. The pool itself is not a bean: Spring Boot backs off its JDBC DataSource when
+     * an R2DBC ConnectionFactory bean exists.
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, r2dbcUsername)
+                .option(ConnectionFactoryOptions.PASSWORD, r2dbcPassword)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("UserAuthR2dbcPool")
+                .initialSize(Math.min(2, poolMaxSize))
+                .maxSize(poolMaxSize)
+                .maxAcquireTime(Duration.ofMillis(poolMaxAcquireTimeMs))
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    void disposeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    @Bean
+    public ReactiveTokenServer reactiveTokenServer(ReactiveAuthHandler reactiveAuthHandler, ObjectMapper objectMapper) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(securityHeaders())
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(reactiveAuthHandler.routes(), strategies);
+
+        LoopResources loopResources = LoopResources.create("reactive-token", eventLoopThreads, true);
+        HttpServer httpServer = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                // Unmatched paths share one tag to keep the number of series bounded
+                .metrics(true, uri -> isRoute(uri) ? uri : "UNKNOWN")
+                .handle(new ReactorHttpHandlerAdapter(httpHandler));
+        return new ReactiveTokenServer(httpServer, loopResources);
+    }
+
+    private static boolean isRoute(String uri) {
+        for (String route : ROUTES) {
+            if (uri.endsWith(route)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The headers SecurityHeadersFilter sets on the servlet side for these endpoints.
+     */
+    private static WebFilter securityHeaders() {
+        return (exchange, chain) -> {
+            var headers = exchange.getResponse().getHeaders();
+            headers.set("Content-Security-Policy", "default-src 'self'");
+            headers.set("X-Content-Type-Options", "nosniff");
+            headers.set("X-Frame-Options", "DENY");
+            headers.set("X-XSS-Protection", "1; mode=block");
+            headers.set("Strict-Transport-Security", "max-age=31536000; includeSubDomains");
+            headers.set("Cache-Control", "no-cache, no-store, must-revalidate");
+            headers.set("Pragma", "no-cache");
+            headers.set("Expires", "0");
+            return chain.filter(exchange);
+        };
+    }
+
+    /**
+     * Binds the reactive token server with the application context and stops it before the
+     * connection pool is disposed.
+     */
+    public static class ReactiveTokenServer implements SmartLifecycle {
+
+        private final HttpServer httpServer;
+        private final LoopResources loopResources;
+        private volatile DisposableServer server;
+
+        ReactiveTokenServer(HttpServer httpServer, LoopResources loopResources) {
+            this.httpServer = httpServer;
+            this.loopResources = loopResources;
+        }
+
+        @Override
+        public void start() {
+            server = httpServer.bindNow();
+            log.info("Reactive token server listening on port {}", server.port());
+        }
+
+        @Override
+        public void stop() {
+            DisposableServer running = server;
+            server = null;
+            if (running != null) {
+                running.disposeNow();
+            }
+            loopResources.disposeLater().block();
+        }
+
+        @Override
+        public boolean isRunning() {
+            return server != null;
+        }
+
+        /**
+         * The bound port; differs from the configured one when that is 0.
+         *
+         * @return the port, or -1 when not running
+         */
+        public int getPort() {
+            DisposableServer running = server;
+            return running != null ? running.port() : -1;
+        }
+    }
+}
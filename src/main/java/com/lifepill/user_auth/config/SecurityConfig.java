@@ -1,15 +1,19 @@
 package com.lifepill.user_auth.config;
 
 import com.lifepill.user_auth.security.CustomUserDetailsService;
+import com.lifepill.user_auth.security.IntrospectionClientAuthenticator;
 import com.lifepill.user_auth.security.JwtAuthenticationEntryPoint;
 import com.lifepill.user_auth.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -17,11 +21,14 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.List;
+
 /**
  * Security configuration for the application.
  * Configures JWT authentication, authorization rules, and security filters.
@@ -36,6 +43,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final CustomUserDetailsService userDetailsService;
+    private final IntrospectionClientAuthenticator introspectionClientAuthenticator;
 
     @Value("${api.version:v1}")
     private String apiVersion;
@@ -69,6 +77,48 @@ public class SecurityConfig {
         };
     }
 
+    /**
+     * Security filter chain for token introspection.
+     * Only services holding the gateway client credential (HTTP Basic) may introspect;
+     * user access tokens are not accepted here.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain introspectionSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/" + apiVersion + "/user/auth/introspect")
+                .cors(cors -> cors.disable())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                )
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().hasAuthority(IntrospectionClientAuthenticator.INTROSPECTION_CLIENT_AUTHORITY)
+                )
+                .httpBasic(basic -> basic.authenticationEntryPoint(jwtAuthenticationEntryPoint))
+                .authenticationManager(introspectionClientAuthenticationManager());
+
+        return http.build();
+    }
+
+    /**
+     * Authentication manager that only knows the introspection client credential.
+     */
+    private AuthenticationManager introspectionClientAuthenticationManager() {
+        return authentication -> {
+            String clientId = authentication.getName();
+            Object secret = authentication.getCredentials();
+            if (!introspectionClientAuthenticator.matches(clientId, secret != null ? secret.toString() : null)) {
+                throw new BadCredentialsException("Invalid introspection client credentials");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(clientId, null,
+                    List.of(new SimpleGrantedAuthority(IntrospectionClientAuthenticator.INTROSPECTION_CLIENT_AUTHORITY)));
+        };
+    }
+
     /**
      * Configure the security filter chain.
      */
@@ -101,6 +151,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, publicEndpoints).permitAll()
                         .requestMatchers(HttpMethod.GET, verifyEmailPath).permitAll()
                         .requestMatchers(HttpMethod.GET, googleStatusPath).permitAll()
+                        // Public verification keys for downstream services
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
                         // Allow static resources (reset password HTML page) with full path
                         .requestMatchers(HttpMethod.GET, "/" + apiVersion + "/user/auth/reset-password").permitAll()
                         .requestMatchers(HttpMethod.GET, "/reset-password.html", "/reset-password").permitAll()
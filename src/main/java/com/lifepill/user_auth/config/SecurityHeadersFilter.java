@@ -38,9 +38,15 @@ public class SecurityHeadersFilter implements Filter {
         httpResponse.setHeader("X-Frame-Options", "DENY");
         httpResponse.setHeader("X-XSS-Protection", "1; mode=block");
         httpResponse.setHeader("Strict-Transport-Security", "max-age=31536000; includeSubDomains");
-        httpResponse.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
-        httpResponse.setHeader("Pragma", "no-cache");
-        httpResponse.setHeader("Expires", "0");
+        if (requestUri.endsWith("/user/profile")) {
+            // Clients may keep the profile but must revalidate it with its ETag on every use
+            httpResponse.setHeader("Cache-Control", "private, no-cache");
+        } else if (!requestUri.contains("/.well-known/")) {
+            // Public key sets are meant to be cached by consumers; their controller sets Cache-Control
+            httpResponse.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+            httpResponse.setHeader("Pragma", "no-cache");
+            httpResponse.setHeader("Expires", "0");
+        }
         
         chain.doFilter(request, response);
     }
@@ -0,0 +1,158 @@
+package com.lifepill.user_auth.config;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup-time settings, all off by default and switched on together by the fast-start profile.
+ * <ul>
+ *   <li>{@code startup.lazy-beans}: beans not needed before the first auth request (OpenAPI and
+ *   Swagger UI, mail) are created on first use instead of at startup.</li>
+ *   <li>{@code startup.flyway.skip-when-current}: Flyway only migrates when the database is behind
+ *   the newest migration on the classpath, which saves its schema lock and validation on every
+ *   restart of an already migrated database.</li>
+ * </ul>
+ * Independently of these, the instance registers with Eureka as {@code STARTING} and only turns
+ * {@code UP} once it accepts traffic, so discovery clients do not route to it while it warms up.
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    private static final Pattern VERSIONED_MIGRATION = Pattern.compile("V([0-9._]+)__.*\\.sql");
+
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    public StartupConfig(ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+        this.applicationInfoManager = applicationInfoManager;
+    }
+
+    /**
+     * Mark the bean definitions matching {@code startup.lazy-beans.bean-class-prefixes} lazy.
+     * Beans declared by a matching configuration class match too. A lazy bean that an eager one
+     * injects is still created at startup, hence the @Lazy injection points of such beans.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        Binder binder = Binder.get(environment);
+        boolean enabled = binder.bind("startup.lazy-beans.enabled", Boolean.class).orElse(false);
+        List<String> prefixes = binder.bind("startup.lazy-beans.bean-class-prefixes", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            if (!enabled || prefixes.isEmpty()) {
+                return;
+            }
+            int lazyBeans = 0;
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String className = definition.getBeanClassName();
+                if (className == null && definition.getFactoryBeanName() != null
+                        && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+                    className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+                }
+                if (className != null && prefixes.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                    lazyBeans++;
+                }
+            }
+            log.info("Deferred initialization of {} non-critical beans", lazyBeans);
+        };
+    }
+
+    /**
+     * Run Flyway only when the schema is behind, if {@code startup.flyway.skip-when-current} is set.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        boolean skipWhenCurrent = environment.getProperty("startup.flyway.skip-when-current", Boolean.class, false);
+        return flyway -> {
+            if (skipWhenCurrent && isSchemaCurrent(flyway)) {
+                log.info("Schema is at the newest migration; skipping Flyway");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+
+    /**
+     * Mirror readiness into the Eureka instance status.
+     */
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        InstanceInfo.InstanceStatus status = event.getState() == ReadinessState.ACCEPTING_TRAFFIC
+                ? InstanceInfo.InstanceStatus.UP
+                : InstanceInfo.InstanceStatus.OUT_OF_SERVICE;
+        applicationInfoManager.ifAvailable(manager -> {
+            manager.setInstanceStatus(status);
+            log.info("Eureka instance status set to {}", status);
+        });
+    }
+
+    private static boolean isSchemaCurrent(Flyway flyway) {
+        Optional<MigrationVersion> newest = newestClasspathMigration(flyway);
+        if (newest.isEmpty()) {
+            return false;
+        }
+        try {
+            String sql = "SELECT version FROM " + flyway.getConfiguration().getTable()
+                    + " WHERE success = true AND version IS NOT NULL";
+            return new JdbcTemplate(flyway.getConfiguration().getDataSource())
+                    .queryForList(sql, String.class).stream()
+                    .map(MigrationVersion::fromVersion)
+                    .anyMatch(applied -> applied.compareTo(newest.get()) >= 0);
+        } catch (RuntimeException e) {
+            // No schema history yet, or unreadable: let Flyway decide
+            log.debug("Could not read the schema history: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static Optional<MigrationVersion> newestClasspathMigration(Flyway flyway) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        MigrationVersion newest = null;
+        try {
+            for (Location location : flyway.getConfiguration().getLocations()) {
+                if (!location.isClassPath()) {
+                    continue;
+                }
+                for (Resource resource : resolver.getResources("classpath*:" + location.getRootPath() + "/V*__*.sql")) {
+                    Matcher matcher = VERSIONED_MIGRATION.matcher(Objects.requireNonNull(resource.getFilename()));
+                    if (matcher.matches()) {
+                        MigrationVersion version = MigrationVersion.fromVersion(matcher.group(1).replace('_', '.'));
+                        newest = newest == null || version.compareTo(newest) > 0 ? version : newest;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Could not list migrations: {}", e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.ofNullable(newest);
+    }
+}
@@ -0,0 +1,74 @@
+package com.lifepill.user_auth.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reachability hints for the native image, for what Spring AOT cannot infer from the bean
+ * definitions.
+ * <ul>
+ *   <li>jjwt: jjwt-api loads its implementation classes by name, and finds the Jackson
+ *   serializer through ServiceLoader.</li>
+ *   <li>Google API client: id token headers and payloads are read into {@code @Key} fields by
+ *   reflection. google-http-client ships hints for its own transport classes.</li>
+ *   <li>Email templates, read from the classpath when the mail service starts.</li>
+ * </ul>
+ * MapStruct mappers are generated Spring components and Bucket4j local buckets use no
+ * reflection, so neither needs hints. The DTOs bound outside of {@code @RestController}
+ * methods are registered where they are bound, with {@code @RegisterReflectionForBinding}.
+ */
+public class UserAuthRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] JJWT_IMPLEMENTATIONS = {
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    private static final String[] GOOGLE_ID_TOKEN_TYPES = {
+            "com.google.api.client.googleapis.auth.oauth2.GoogleIdToken$Payload",
+            "com.google.api.client.json.webtoken.JsonWebSignature$Header",
+            "com.google.api.client.json.webtoken.JsonWebToken$Header",
+            "com.google.api.client.json.webtoken.JsonWebToken$Payload",
+            "com.google.api.client.json.GenericJson",
+            "com.google.api.client.util.GenericData"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_IMPLEMENTATIONS) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        for (String type : GOOGLE_ID_TOKEN_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("com/google/api/client/googleapis/google-api-client.properties");
+
+        hints.resources().registerPattern("templates/email/*.html");
+    }
+}
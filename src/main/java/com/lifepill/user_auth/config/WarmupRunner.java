@@ -0,0 +1,157 @@
+package com.lifepill.user_auth.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifepill.user_auth.dto.request.LoginRequest;
+import com.lifepill.user_auth.dto.response.ApiResponse;
+import com.lifepill.user_auth.dto.response.AuthResponse;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.mapper.UserMapper;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import com.lifepill.user_auth.service.JwtService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NativeDetector;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JIT warm-up before the instance reports ready.
+ * <p>
+ * Application runners complete before Spring Boot switches readiness to ACCEPTING_TRAFFIC, so
+ * the first real logins and refreshes do not pay for interpreting and compiling the hot paths.
+ * Each cycle signs and verifies an access and a refresh token, maps a synthetic user,
+ * serializes the login and profile responses and parses a login request; every
+ * {@value #PASSWORD_EVERY}th cycle also checks a password. Cycles stop at {@code startup.warmup.cycles} or after
+ * {@code startup.warmup.max-duration-ms}, whichever comes first. Nothing touches the database.
+ * <p>
+ * The result is reported as startup metrics next to Spring Boot's application.ready.time:
+ * {@code application.warmup.time}, {@code application.warmup.cycles} and the p99 cycle time
+ * of the first and the last {@code startup.warmup.window} cycles as
+ * {@code application.warmup.cycle.p99} (tag {@code window}). The synthetic calls are removed
+ * from the auth.phase metrics afterwards.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "startup.warmup.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final int PASSWORD_EVERY = 250;
+    private static final String PASSWORD = "Warm-up-password-1";
+    private static final byte[] LOGIN_REQUEST = ("{\"email\":\"warmup@lifepill.local\",\"password\":\"" + PASSWORD + "\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final JwtService jwtService;
+    private final PasswordEncoder passwordEncoder;
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${startup.warmup.cycles:2000}")
+    private int cycles;
+
+    @Value("${startup.warmup.max-duration-ms:10000}")
+    private long maxDurationMs;
+
+    @Value("${startup.warmup.window:100}")
+    private int window;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (NativeDetector.inNativeImage()) {
+            // Compiled ahead of time; there is nothing to warm up
+            return;
+        }
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("warmup@lifepill.local")
+                .firstName("Warm")
+                .lastName("Up")
+                .emailVerified(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        long[] cycleNanos = new long[cycles];
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        int completed = 0;
+        try {
+            while (completed < cycles && System.nanoTime() < deadline) {
+                if (completed % PASSWORD_EVERY == 0) {
+                    passwordEncoder.matches(PASSWORD, passwordHash);
+                }
+                long cycleStart = System.nanoTime();
+                cycle(user);
+                cycleNanos[completed++] = System.nanoTime() - cycleStart;
+            }
+        } catch (IOException | RuntimeException e) {
+            // A failed warm-up only costs the first requests some latency
+            log.warn("JIT warm-up stopped after {} cycles: {}", completed, e.getMessage());
+        } finally {
+            authMetrics.clear();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        int windowSize = Math.min(window, completed / 2);
+        if (windowSize == 0) {
+            return;
+        }
+        double firstP99Ms = p99Ms(Arrays.copyOfRange(cycleNanos, 0, windowSize));
+        double lastP99Ms = p99Ms(Arrays.copyOfRange(cycleNanos, completed - windowSize, completed));
+        report(elapsedMs, completed, firstP99Ms, lastP99Ms);
+        log.info("JIT warm-up: {} cycles in {} ms, cycle p99 {} ms -> {} ms",
+                completed, elapsedMs, String.format("%.3f", firstP99Ms), String.format("%.3f", lastP99Ms));
+    }
+
+    private void cycle(User user) throws IOException {
+        String accessToken = jwtService.generateAccessToken(user);
+        String refreshToken = jwtService.generateRefreshToken(user);
+        jwtService.validateToken(accessToken);
+        jwtService.isRefreshToken(refreshToken);
+        jwtService.extractUserId(accessToken);
+
+        AuthResponse response = userMapper.toAuthResponse(user, accessToken, refreshToken);
+        objectMapper.writeValueAsBytes(ApiResponse.success("Login successful", response));
+        objectMapper.writeValueAsBytes(userMapper.toUserProfileResponse(user));
+        objectMapper.readValue(LOGIN_REQUEST, LoginRequest.class);
+    }
+
+    private void report(long elapsedMs, int completed, double firstP99Ms, double lastP99Ms) {
+        TimeGauge.builder("application.warmup.time", () -> elapsedMs, TimeUnit.MILLISECONDS)
+                .description("Time spent warming up the JIT before accepting traffic")
+                .register(meterRegistry);
+        Gauge.builder("application.warmup.cycles", () -> completed)
+                .description("Warm-up cycles run before accepting traffic")
+                .register(meterRegistry);
+        TimeGauge.builder("application.warmup.cycle.p99", () -> firstP99Ms, TimeUnit.MILLISECONDS)
+                .description("p99 time of a warm-up cycle")
+                .tag("window", "first")
+                .register(meterRegistry);
+        TimeGauge.builder("application.warmup.cycle.p99", () -> lastP99Ms, TimeUnit.MILLISECONDS)
+                .description("p99 time of a warm-up cycle")
+                .tag("window", "last")
+                .register(meterRegistry);
+    }
+
+    private static double p99Ms(long[] nanos) {
+        Arrays.sort(nanos);
+        int index = (int) Math.ceil(nanos.length * 0.99) - 1;
+        return nanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -4,11 +4,13 @@ import com.lifepill.user_auth.config.RateLimiterConfig;
 import com.lifepill.user_auth.dto.request.*;
 import com.lifepill.user_auth.dto.response.ApiResponse;
 import com.lifepill.user_auth.dto.response.AuthResponse;
+import com.lifepill.user_auth.dto.response.IntrospectionResponse;
 import com.lifepill.user_auth.dto.response.TokenResponse;
 import com.lifepill.user_auth.exception.RateLimitExceededException;
 import com.lifepill.user_auth.service.AuthService;
 import com.lifepill.user_auth.service.EmailTemplateService;
 import com.lifepill.user_auth.service.GoogleOAuthService;
+import com.lifepill.user_auth.service.TokenIntrospectionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,6 +25,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
+
 /**
  * REST controller for authentication endpoints.
  * Handles user registration, login, password reset, and token management.
@@ -38,6 +42,7 @@ public class AuthController {
     private final RateLimiterConfig rateLimiterConfig;
     private final GoogleOAuthService googleOAuthService;
     private final EmailTemplateService emailTemplateService;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
     /**
      * Register a new user.
@@ -436,18 +441,70 @@ public ResponseEntity<String> resetPasswordPage(@RequestParam String token) {
      */
     @Operation(
             summary = "Logout user",
-            description = "Invalidates the refresh token and logs out the user"
+            description = "Invalidates the refresh token and the bearer access token, and logs out the user"
     )
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
-            @Valid @RequestBody LogoutRequest request
+            @Valid @RequestBody LogoutRequest request,
+            @RequestHeader(value = "Authorization", required = false) String authorization
     ) {
         log.info("Logout request received");
+        if (request.getAccessToken() == null && authorization != null && authorization.startsWith("Bearer ")) {
+            request.setAccessToken(authorization.substring("Bearer ".length()));
+        }
         authService.logout(request);
         
         return ResponseEntity.ok(ApiResponse.success("Logged out successfully"));
     }
 
+    /**
+     * Introspect one or many access tokens.
+     * Returns a bare RFC 7662 object for a single token, or an array in request order for a batch.
+     * Only introspection clients may call it (see SecurityConfig), rate limited per token.
+     *
+     * @param request the introspection request
+     * @param client the authenticated introspection client
+     * @return the introspection result(s)
+     */
+    @Operation(
+            summary = "Introspect access tokens",
+            description = "Validates one access token (token) or a batch (tokens) and returns its claims in RFC 7662 form"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Introspection result(s); invalid or expired tokens are reported as inactive",
+                    content = @Content(schema = @Schema(implementation = IntrospectionResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Neither or both of token and tokens provided"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid introspection client credentials"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many tokens introspected by this client"
+            )
+    })
+    @PostMapping("/introspect")
+    public ResponseEntity<?> introspect(
+            @Valid @RequestBody IntrospectRequest request,
+            @Parameter(hidden = true) Principal client
+    ) {
+        int tokenCount = request.getTokens() != null ? request.getTokens().size() : 1;
+        if (!rateLimiterConfig.allowIntrospection(client.getName(), tokenCount)) {
+            throw new RateLimitExceededException("Too many introspection requests. Please try again later.");
+        }
+
+        if (request.getTokens() != null) {
+            return ResponseEntity.ok(tokenIntrospectionService.introspect(request.getTokens()));
+        }
+        return ResponseEntity.ok(tokenIntrospectionService.introspect(request.getToken()));
+    }
+
     /**
      * Extract client IP address from request.
      * Handles proxy headers for accurate IP detection.
@@ -0,0 +1,43 @@
+package com.lifepill.user_auth.controller;
+
+import com.lifepill.user_auth.security.JwtKeyProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * REST controller publishing the JWT verification keys as a JWK Set (RFC 7517).
+ * Downstream services and the gateway verify ES256 tokens locally with these keys.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "Public keys for verifying access tokens")
+public class JwksController {
+
+    private final JwtKeyProvider jwtKeyProvider;
+
+    /**
+     * Get the JWK Set of all verification keys.
+     * Served from memory with long-lived cache headers.
+     *
+     * @return the serialized JWK Set
+     */
+    @Operation(
+            summary = "Get JSON Web Key Set",
+            description = "Returns the public keys used to verify access tokens, indexed by kid"
+    )
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(jwtKeyProvider.getJwksMaxAgeSeconds()))
+                        .cachePublic())
+                .body(jwtKeyProvider.getJwksJson());
+    }
+}
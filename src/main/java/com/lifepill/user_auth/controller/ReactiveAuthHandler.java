@@ -0,0 +1,169 @@
+package com.lifepill.user_auth.controller;
+
+import com.lifepill.user_auth.dto.request.IntrospectRequest;
+import com.lifepill.user_auth.dto.request.RefreshTokenRequest;
+import com.lifepill.user_auth.dto.response.ApiResponse;
+import com.lifepill.user_auth.dto.response.ErrorDetails;
+import com.lifepill.user_auth.dto.response.IntrospectionResponse;
+import com.lifepill.user_auth.dto.response.TokenResponse;
+import com.lifepill.user_auth.config.RateLimiterConfig;
+import com.lifepill.user_auth.exception.BaseException;
+import com.lifepill.user_auth.exception.RateLimitExceededException;
+import com.lifepill.user_auth.security.IntrospectionClientAuthenticator;
+import com.lifepill.user_auth.service.ReactiveTokenRefreshService;
+import com.lifepill.user_auth.service.TokenIntrospectionService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking variants of the refresh-token and introspect endpoints, served by the reactive
+ * token server on its own port. Paths, request bodies and responses (including errors) match
+ * {@link AuthController}, so a gateway can move either route between the two stacks.
+ * Functional routes are invisible to Spring AOT, hence the explicit binding hints.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+@RegisterReflectionForBinding({RefreshTokenRequest.class, IntrospectRequest.class, ApiResponse.class,
+        TokenResponse.class, IntrospectionResponse.class, ErrorDetails.class})
+@RequiredArgsConstructor
+public class ReactiveAuthHandler {
+
+    private final ReactiveTokenRefreshService reactiveTokenRefreshService;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final IntrospectionClientAuthenticator introspectionClientAuthenticator;
+    private final RateLimiterConfig rateLimiterConfig;
+    private final Validator validator;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Value("${api.version:v1}")
+    private String apiVersion;
+
+    /**
+     * Routes served by the reactive token server.
+     *
+     * @return the router function
+     */
+    public RouterFunction<ServerResponse> routes() {
+        String basePath = contextPath + "/" + apiVersion + "/user/auth";
+        return RouterFunctions.route()
+                .POST(basePath + "/refresh-token", this::refreshToken)
+                .POST(basePath + "/introspect", this::introspect)
+                .build();
+    }
+
+    /**
+     * Refresh access token.
+     *
+     * @param request the server request carrying a refresh token request
+     * @return the new token response
+     */
+    public Mono<ServerResponse> refreshToken(ServerRequest request) {
+        return readValid(request, RefreshTokenRequest.class)
+                .flatMap(body -> reactiveTokenRefreshService.refreshToken(body.getRefreshToken()))
+                .flatMap(tokens -> respond(HttpStatus.OK, ApiResponse.success("Token refreshed successfully", tokens)))
+                .onErrorResume(this::handleError);
+    }
+
+    /**
+     * Introspect one or many access tokens.
+     * Introspection is CPU-only (revocations are held in memory), so it runs on the event loop.
+     * Same client authentication and rate limit as the servlet endpoint.
+     *
+     * @param request the server request carrying an introspection request
+     * @return the introspection result(s)
+     */
+    public Mono<ServerResponse> introspect(ServerRequest request) {
+        String clientId = introspectionClientAuthenticator
+                .authenticate(request.headers().firstHeader(HttpHeaders.AUTHORIZATION))
+                .orElse(null);
+        if (clientId == null) {
+            log.error("Unauthorized error: missing or invalid introspection client credentials");
+            return respond(HttpStatus.UNAUTHORIZED, ApiResponse.error(
+                    "UNAUTHORIZED",
+                    "You need to be authenticated to access this resource"
+            ));
+        }
+        return readValid(request, IntrospectRequest.class)
+                .flatMap(body -> {
+                    int tokenCount = body.getTokens() != null ? body.getTokens().size() : 1;
+                    if (!rateLimiterConfig.allowIntrospection(clientId, tokenCount)) {
+                        return Mono.error(new RateLimitExceededException(
+                                "Too many introspection requests. Please try again later."));
+                    }
+                    return respond(HttpStatus.OK, body.getTokens() != null
+                            ? tokenIntrospectionService.introspect(body.getTokens())
+                            : tokenIntrospectionService.introspect(body.getToken()));
+                })
+                .onErrorResume(this::handleError);
+    }
+
+    private <T> Mono<T> readValid(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .flatMap(body -> {
+                    Set<ConstraintViolation<T>> violations = validator.validate(body);
+                    return violations.isEmpty()
+                            ? Mono.just(body)
+                            : Mono.error(new ConstraintViolationException(violations));
+                });
+    }
+
+    /**
+     * Same error bodies as GlobalExceptionHandler.
+     */
+    private Mono<ServerResponse> handleError(Throwable ex) {
+        if (ex instanceof BaseException baseException) {
+            log.error("Business exception: {} - {}", baseException.getErrorCode(), baseException.getMessage());
+            ApiResponse<Void> response = baseException.getDetails() != null
+                    ? ApiResponse.error(baseException.getErrorCode(), baseException.getMessage(), baseException.getDetails())
+                    : ApiResponse.error(baseException.getErrorCode(), baseException.getMessage());
+            return respond(baseException.getHttpStatus(), response);
+        }
+        if (ex instanceof ConstraintViolationException violationException) {
+            Map<String, String> errors = new HashMap<>();
+            violationException.getConstraintViolations().forEach(violation ->
+                    errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            log.warn("Validation failed: {}", errors);
+            return respond(HttpStatus.BAD_REQUEST, ApiResponse.error("VALIDATION_ERROR", "Invalid input data", errors));
+        }
+        if (ex instanceof ServerWebInputException) {
+            log.warn("Unreadable request: {}", ex.getMessage());
+            return respond(HttpStatus.BAD_REQUEST, ApiResponse.error("VALIDATION_ERROR", "Invalid input data"));
+        }
+        log.error("Unexpected error occurred", ex);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, ApiResponse.error(
+                "INTERNAL_SERVER_ERROR",
+                "An unexpected error occurred. Please try again later."
+        ));
+    }
+
+    private static Mono<ServerResponse> respond(HttpStatusCode status, Object body) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+}
@@ -1,5 +1,8 @@
 package com.lifepill.user_auth.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifepill.user_auth.cache.ProfileResponseCache;
 import com.lifepill.user_auth.dto.request.UpdateProfileRequest;
 import com.lifepill.user_auth.dto.response.ApiResponse;
 import com.lifepill.user_auth.dto.response.UserProfileResponse;
@@ -14,9 +17,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
 
 /**
  * REST controller for user profile endpoints.
@@ -31,16 +38,22 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final ProfileResponseCache profileResponseCache;
+    private final ObjectMapper objectMapper;
 
     /**
      * Get current user's profile.
+     * Supports conditional requests: a matching If-None-Match is answered with 304 from a
+     * version lookup alone, and unchanged profiles are served from pre-serialized bytes.
      *
      * @param userPrincipal the authenticated user
-     * @return the user profile response
+     * @param webRequest the current request, used for ETag validation
+     * @return the serialized user profile response, or null when a 304 has been sent
      */
     @Operation(
             summary = "Get user profile",
-            description = "Retrieves the authenticated user's profile information including address"
+            description = "Retrieves the authenticated user's profile information including address. "
+                    + "Returns an ETag; send it back in If-None-Match to get 304 Not Modified while the profile is unchanged."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -48,6 +61,10 @@ public class UserController {
                     description = "Profile retrieved successfully",
                     content = @Content(schema = @Schema(implementation = UserProfileResponse.class))
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "Profile unchanged since the ETag in If-None-Match"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized - Invalid or missing JWT token"
@@ -58,13 +75,29 @@ public class UserController {
             )
     })
     @GetMapping("/profile")
-    public ResponseEntity<ApiResponse<UserProfileResponse>> getProfile(
-            @AuthenticationPrincipal UserPrincipal userPrincipal
-    ) {
-        log.info("Get profile request for user: {}", userPrincipal.getId());
-        UserProfileResponse profile = userService.getProfile(userPrincipal.getId());
-        
-        return ResponseEntity.ok(ApiResponse.success("Profile retrieved successfully", profile));
+    public ResponseEntity<byte[]> getProfile(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest
+    ) throws JsonProcessingException {
+        UUID userId = userPrincipal.getId();
+        log.info("Get profile request for user: {}", userId);
+
+        // Sets the ETag header, and status 304 if If-None-Match matches
+        String etag = userService.getProfileETag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        byte[] body = profileResponseCache.get(userId, etag);
+        if (body == null) {
+            UserProfileResponse profile = userService.getProfile(userId);
+            body = objectMapper.writeValueAsBytes(ApiResponse.success("Profile retrieved successfully", profile));
+            profileResponseCache.put(userId, etag, body);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
@@ -111,13 +144,14 @@ public class UserController {
     /**
      * Delete current user's account.
      * This is a permanent action that cannot be undone.
+     * The account is deactivated immediately and its data is purged in the background.
      *
      * @param userPrincipal the authenticated user
      * @return success response
      */
     @Operation(
             summary = "Delete user account",
-            description = "Permanently deletes the authenticated user's account and all associated data (addresses, sessions, etc.). This action cannot be undone."
+            description = "Permanently deletes the authenticated user's account and all associated data (addresses, sessions, etc.). The account is deactivated immediately and its data is purged in the background. This action cannot be undone."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -0,0 +1,35 @@
+package com.lifepill.user_auth.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for token introspection requests.
+ * Carries either a single token or a batch of tokens.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectRequest {
+
+    private String token;
+
+    @Size(max = 100, message = "At most 100 tokens can be introspected per request")
+    private List<String> tokens;
+
+    @JsonIgnore
+    @AssertTrue(message = "Exactly one of token or tokens is required")
+    public boolean isSingleOrBatch() {
+        boolean hasToken = token != null && !token.isBlank();
+        boolean hasTokens = tokens != null && !tokens.isEmpty();
+        return hasToken != hasTokens;
+    }
+}
@@ -17,4 +17,10 @@ public class LogoutRequest {
 
     @NotBlank(message = "Refresh token is required")
     private String refreshToken;
+
+    /**
+     * Access token to revoke along with the refresh token.
+     * Taken from the Authorization header when not given in the body.
+     */
+    private String accessToken;
 }
@@ -0,0 +1,45 @@
+package com.lifepill.user_auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for token introspection responses in the RFC 7662 shape.
+ * Inactive tokens carry only {@code "active": false}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IntrospectionResponse {
+
+    private boolean active;
+
+    private String sub;
+
+    private String email;
+
+    @JsonProperty("email_verified")
+    private Boolean emailVerified;
+
+    @JsonProperty("token_type")
+    private String tokenType;
+
+    private String jti;
+
+    private Long iat;
+
+    private Long exp;
+
+    /**
+     * Response for a token that is invalid, expired or not an access token.
+     */
+    public static IntrospectionResponse inactive() {
+        return IntrospectionResponse.builder().active(false).build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.lifepill.user_auth.entity;
+
+import com.lifepill.user_auth.util.TokenHasher;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * OneTimeToken entity representing the one_time_tokens table.
+ * Stores SHA-256 digests of email verification and password reset tokens.
+ * References the user by ID only so issuing and consuming never loads the user row.
+ */
+@Entity
+@Table(name = "one_time_tokens")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OneTimeToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "token_type", nullable = false, length = 32)
+    private OneTimeTokenType tokenType;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = TokenHasher.DIGEST_LENGTH)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package com.lifepill.user_auth.entity;
+
+/**
+ * Types of single-use tokens stored in the one_time_tokens table.
+ */
+public enum OneTimeTokenType {
+    EMAIL_VERIFICATION,
+    PASSWORD_RESET
+}
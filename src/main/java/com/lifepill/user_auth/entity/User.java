@@ -3,6 +3,7 @@ package com.lifepill.user_auth.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -14,9 +15,11 @@ import java.util.UUID;
 /**
  * User entity representing the users table in the database.
  * This is the core entity for user authentication and profile management.
+ * Soft-deleted (tombstoned) users are excluded from all entity queries.
  */
 @Entity
 @Table(name = "users")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @Builder
@@ -50,18 +53,6 @@ public class User {
     @Builder.Default
     private Boolean emailVerified = false;
 
-    @Column(name = "email_verification_token", length = 255)
-    private String emailVerificationToken;
-
-    @Column(name = "email_verification_token_expires_at")
-    private LocalDateTime emailVerificationTokenExpiresAt;
-
-    @Column(name = "password_reset_token", length = 255)
-    private String passwordResetToken;
-
-    @Column(name = "password_reset_token_expires_at")
-    private LocalDateTime passwordResetTokenExpiresAt;
-
     // OAuth fields
     @Column(name = "auth_provider", length = 50)
     private String authProvider;
@@ -80,6 +71,9 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<UserAddress> addresses = new ArrayList<>();
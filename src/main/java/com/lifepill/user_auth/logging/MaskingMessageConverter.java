@@ -0,0 +1,18 @@
+package com.lifepill.user_auth.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.lifepill.user_auth.util.LogMasking;
+
+/**
+ * Logback {@code %msg} with email and IP addresses masked.
+ * Registered in logback-spring.xml in place of the built-in conversion words, so every pattern
+ * and the JSON message field are masked without changing the log statements.
+ */
+public class MaskingMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return LogMasking.mask(super.convert(event));
+    }
+}
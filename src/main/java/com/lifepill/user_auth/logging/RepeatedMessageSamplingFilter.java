@@ -0,0 +1,89 @@
+package com.lifepill.user_auth.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Logback turbo filter that samples repetitive messages below WARN.
+ * <p>
+ * Messages are counted per format string (the template before arguments are substituted) in
+ * one-second windows; beyond {@code maxPerSecond} in a window they are dropped before any
+ * formatting or appending happens. The number dropped is logged once the next message with
+ * that format arrives in a later window. Warnings and errors are never sampled. At most
+ * {@code maxFormats} formats are tracked, so messages built by concatenation cannot grow the
+ * table without bound; formats beyond that are not sampled.
+ */
+public class RepeatedMessageSamplingFilter extends TurboFilter {
+
+    private static final String SUMMARY_FORMAT = "Sampled out {} repetitions of \"{}\"";
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private int maxPerSecond = 50;
+    private int maxFormats = 1000;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Level checks (format == null) and events that would not be logged anyway are not counted
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(format);
+        if (window == null) {
+            if (windows.size() >= maxFormats) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(format, key -> new Window());
+        }
+
+        long second = System.currentTimeMillis() / 1000;
+        if (window.second != second) {
+            int dropped = window.roll(second);
+            if (dropped > 0) {
+                logger.info(SUMMARY_FORMAT, dropped, format);
+            }
+        }
+        if (window.count.incrementAndGet() <= maxPerSecond) {
+            return FilterReply.NEUTRAL;
+        }
+        window.dropped.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void setMaxFormats(int maxFormats) {
+        this.maxFormats = maxFormats;
+    }
+
+    private static final class Window {
+
+        private volatile long second;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+
+        /**
+         * Start a new window, once per second even under contention.
+         *
+         * @return the number of messages dropped in the previous window
+         */
+        synchronized int roll(long newSecond) {
+            if (second == newSecond) {
+                return 0;
+            }
+            second = newSecond;
+            count.set(0);
+            return dropped.getAndSet(0);
+        }
+    }
+}
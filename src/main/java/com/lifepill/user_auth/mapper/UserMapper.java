@@ -11,16 +11,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
- * Unified mapper component that delegates to MapStruct and ModelMapper implementations.
- * This provides a single entry point for all mapping operations while allowing flexibility
- * to use either MapStruct (compile-time) or ModelMapper (runtime) based on requirements.
+ * Unified mapper component that delegates to the MapStruct implementation.
+ * This provides a single entry point for all mapping operations; every mapping runs through
+ * compile-time generated code, without runtime reflection.
  */
 @Component
 @RequiredArgsConstructor
 public class UserMapper {
 
     private final UserMapStructMapper mapStructMapper;
-    private final UserModelMapper modelMapper;
 
     /**
      * Convert AddressRequest DTO to UserAddress entity.
@@ -46,18 +45,18 @@ public class UserMapper {
 
     /**
      * Convert User entity to UserProfileResponse DTO.
-     * Uses ModelMapper for flexible runtime mapping.
+     * Uses MapStruct for efficient compile-time mapping.
      *
      * @param user the user entity
      * @return the user profile response
      */
     public UserProfileResponse toUserProfileResponse(User user) {
-        return modelMapper.toUserProfileResponse(user);
+        return mapStructMapper.toUserProfileResponse(user);
     }
 
     /**
      * Convert User entity to AuthResponse DTO with tokens.
-     * Uses ModelMapper for flexible runtime mapping.
+     * Uses MapStruct for efficient compile-time mapping.
      *
      * @param user the user entity
      * @param accessToken the access token
@@ -65,7 +64,12 @@ public class UserMapper {
      * @return the auth response
      */
     public AuthResponse toAuthResponse(User user, String accessToken, String refreshToken) {
-        return modelMapper.toAuthResponse(user, accessToken, refreshToken);
+        AuthResponse response = mapStructMapper.toAuthResponse(user);
+        if (response != null) {
+            response.setAccessToken(accessToken);
+            response.setRefreshToken(refreshToken);
+        }
+        return response;
     }
 
     /**
@@ -81,25 +85,14 @@ public class UserMapper {
 
     /**
      * Update existing UserAddress from AddressRequest (partial update).
-     * Uses ModelMapper for flexible runtime field updates.
+     * Uses MapStruct for efficient compile-time mapping.
      *
      * @param request the address request
      * @param address the existing address to update
      */
     public void updateAddressFromRequest(AddressRequest request, UserAddress address) {
-        modelMapper.updateAddressFromRequest(request, address);
-    }
-
-    /**
-     * Generic mapping method using ModelMapper.
-     *
-     * @param source the source object
-     * @param destinationType the destination class
-     * @param <S> source type
-     * @param <D> destination type
-     * @return the mapped object
-     */
-    public <S, D> D map(S source, Class<D> destinationType) {
-        return modelMapper.map(source, destinationType);
+        if (request != null && address != null) {
+            mapStructMapper.updateAddressFromRequest(request, address);
+        }
     }
 }
@@ -0,0 +1,160 @@
+package com.lifepill.user_auth.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Timers for the individual stages of the authentication pipeline, so a slow endpoint can be
+ * attributed to BCrypt, the database, token signing or SMTP instead of just its URI.
+ * <p>
+ * Every stage is recorded as {@code auth.phase}, tagged with {@code phase} and {@code operation}.
+ * Both tags only take the constant values below, which keeps the number of series small.
+ * Rejections and failures of a stage are also counted as {@code auth.phase.failures} with the
+ * same tags.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String PHASE_RATE_LIMIT = "rate_limit";
+    public static final String PHASE_USER_LOOKUP = "user_lookup";
+    public static final String PHASE_USER_INSERT = "user_insert";
+    public static final String PHASE_PASSWORD_MATCH = "password_match";
+    public static final String PHASE_PASSWORD_HASH = "password_hash";
+    public static final String PHASE_TOKEN_SIGN = "token_sign";
+    public static final String PHASE_TOKEN_VERIFY = "token_verify";
+    public static final String PHASE_REFRESH_TOKEN_STORE = "refresh_token_store";
+    public static final String PHASE_EMAIL_ENQUEUE = "email_enqueue";
+    public static final String PHASE_EMAIL_SEND = "email_send";
+
+    public static final String OPERATION_LOGIN = "login";
+    public static final String OPERATION_REGISTER = "register";
+    public static final String OPERATION_GOOGLE = "google";
+    public static final String OPERATION_PASSWORD_RESET = "password_reset";
+    public static final String OPERATION_RESEND_VERIFICATION = "resend_verification";
+    public static final String OPERATION_INTROSPECT = "introspect";
+    public static final String OPERATION_ACCESS = "access";
+    public static final String OPERATION_REFRESH = "refresh";
+    public static final String OPERATION_JWT = "jwt";
+    public static final String OPERATION_CREATE = "create";
+    public static final String OPERATION_FIND = "find";
+    public static final String OPERATION_REVOKE = "revoke";
+    public static final String OPERATION_REVOKE_ALL = "revoke_all";
+    public static final String OPERATION_VERIFICATION = "verification";
+    public static final String OPERATION_WELCOME = "welcome";
+    public static final String OPERATION_TEST = "test";
+
+    private static final String TIMER_NAME = "auth.phase";
+    private static final String FAILURE_COUNTER_NAME = "auth.phase.failures";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Time one stage.
+     *
+     * @param phase the pipeline stage
+     * @param operation what the stage is part of
+     * @param action the work to time
+     * @return the action's result
+     */
+    public <T> T record(String phase, String operation, Supplier<T> action) {
+        return timer(phase, operation).record(action);
+    }
+
+    /**
+     * Time one stage.
+     *
+     * @param phase the pipeline stage
+     * @param operation what the stage is part of
+     * @param action the work to time
+     */
+    public void record(String phase, String operation, Runnable action) {
+        timer(phase, operation).record(action);
+    }
+
+    /**
+     * Time a check and count it as a failure when it does not pass.
+     *
+     * @param phase the pipeline stage
+     * @param operation what the stage is part of
+     * @param check the check to time
+     * @return the check's result
+     */
+    public boolean recordCheck(String phase, String operation, BooleanSupplier check) {
+        boolean passed = timer(phase, operation).record(check::getAsBoolean);
+        if (!passed) {
+            recordFailure(phase, operation);
+        }
+        return passed;
+    }
+
+    /**
+     * Start timing a stage whose work cannot be wrapped in a lambda, e.g. one throwing checked exceptions.
+     *
+     * @return the running sample, to pass to {@link #stop}
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stop timing a stage started with {@link #start}.
+     *
+     * @param sample the running sample
+     * @param phase the pipeline stage
+     * @param operation what the stage is part of
+     */
+    public void stop(Timer.Sample sample, String phase, String operation) {
+        sample.stop(timer(phase, operation));
+    }
+
+    /**
+     * Count a rejection or failure of a stage.
+     *
+     * @param phase the pipeline stage
+     * @param operation what the stage is part of
+     */
+    public void recordFailure(String phase, String operation) {
+        failureCounters.computeIfAbsent(key(phase, operation), key -> Counter.builder(FAILURE_COUNTER_NAME)
+                        .description("Rejections and failures of an authentication pipeline stage")
+                        .tag("phase", phase)
+                        .tag("operation", operation)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * Remove all stage timers and failure counters, e.g. after synthetic warm-up calls.
+     * They are registered again on their next use.
+     */
+    public void clear() {
+        timers.values().forEach(meterRegistry::remove);
+        timers.clear();
+        failureCounters.values().forEach(meterRegistry::remove);
+        failureCounters.clear();
+    }
+
+    private Timer timer(String phase, String operation) {
+        return timers.computeIfAbsent(key(phase, operation), key -> Timer.builder(TIMER_NAME)
+                .description("Time spent in an authentication pipeline stage")
+                .tag("phase", phase)
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    private static String key(String phase, String operation) {
+        return phase + ':' + operation;
+    }
+}
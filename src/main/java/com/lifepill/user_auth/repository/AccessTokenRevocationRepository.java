@@ -0,0 +1,40 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.AccessTokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for AccessTokenRevocation entity operations.
+ */
+@Repository
+public interface AccessTokenRevocationRepository extends JpaRepository<AccessTokenRevocation, UUID> {
+
+    /**
+     * Find all revocations that still cover unexpired tokens.
+     * Used to populate the in-memory revocation list.
+     *
+     * @param currentTime the current UTC time for expiry comparison
+     * @return the active revocations
+     */
+    @Query("SELECT r FROM AccessTokenRevocation r WHERE r.expiresAt > :currentTime")
+    List<AccessTokenRevocation> findActive(@Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Delete all expired revocations.
+     * Used for periodic cleanup.
+     *
+     * @param currentTime the current UTC time for expiry comparison
+     * @return the number of deleted revocations
+     */
+    @Modifying
+    @Query("DELETE FROM AccessTokenRevocation r WHERE r.expiresAt < :currentTime")
+    int deleteExpired(@Param("currentTime") LocalDateTime currentTime);
+}
@@ -0,0 +1,55 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.OneTimeToken;
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for OneTimeToken entity operations.
+ * Provides data access methods for email verification and password reset tokens.
+ */
+@Repository
+public interface OneTimeTokenRepository extends JpaRepository<OneTimeToken, UUID>, OneTimeTokenRepositoryCustom {
+
+    /**
+     * Delete all tokens of a type for a user.
+     * Used to invalidate outstanding tokens before a new one is issued.
+     *
+     * @param userId the user ID
+     * @param tokenType the token type
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Query("DELETE FROM OneTimeToken t WHERE t.userId = :userId AND t.tokenType = :tokenType")
+    int deleteByUserIdAndTokenType(@Param("userId") UUID userId, @Param("tokenType") OneTimeTokenType tokenType);
+
+    /**
+     * Delete all expired tokens.
+     * Used for periodic cleanup.
+     *
+     * @param currentTime the current time for expiry comparison
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Query("DELETE FROM OneTimeToken t WHERE t.expiresAt < :currentTime")
+    int deleteExpired(@Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Delete all tokens belonging to the given users.
+     * Used by the account purger, since tokens reference the user by ID only.
+     *
+     * @param userIds the user IDs
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Query("DELETE FROM OneTimeToken t WHERE t.userId IN :userIds")
+    int deleteByUserIds(@Param("userIds") List<UUID> userIds);
+}
@@ -0,0 +1,24 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for one-time token consumption.
+ */
+public interface OneTimeTokenRepositoryCustom {
+
+    /**
+     * Atomically delete a valid token and return the user it belonged to.
+     * A token can be consumed at most once, even under concurrent requests.
+     *
+     * @param tokenHash the token digest
+     * @param tokenType the token type
+     * @param currentTime the current time for expiry comparison
+     * @return an Optional containing the user ID if a valid token was consumed
+     */
+    Optional<UUID> consume(String tokenHash, OneTimeTokenType tokenType, LocalDateTime currentTime);
+}
@@ -0,0 +1,59 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of the one-time token consumption fragment.
+ * Uses a single DELETE ... RETURNING statement on PostgreSQL; other databases
+ * (H2 in tests) use the equivalent data change delta table syntax.
+ */
+public class OneTimeTokenRepositoryImpl implements OneTimeTokenRepositoryCustom {
+
+    private static final String DELETE_VALID_TOKEN =
+            "DELETE FROM one_time_tokens WHERE token_hash = :tokenHash "
+                    + "AND token_type = :tokenType AND expires_at > :currentTime";
+
+    private static final String CONSUME_POSTGRES = DELETE_VALID_TOKEN + " RETURNING user_id";
+
+    private static final String CONSUME_DELTA_TABLE = "SELECT user_id FROM OLD TABLE (" + DELETE_VALID_TOKEN + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile String consumeSql;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<UUID> consume(String tokenHash, OneTimeTokenType tokenType, LocalDateTime currentTime) {
+        List<UUID> userIds = entityManager.createNativeQuery(getConsumeSql())
+                .unwrap(NativeQuery.class)
+                .addScalar("user_id", UUID.class)
+                .setParameter("tokenHash", tokenHash)
+                .setParameter("tokenType", tokenType.name())
+                .setParameter("currentTime", currentTime)
+                .getResultList();
+
+        return userIds.stream().findFirst();
+    }
+
+    private String getConsumeSql() {
+        if (consumeSql == null) {
+            boolean postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            consumeSql = postgres ? CONSUME_POSTGRES : CONSUME_DELTA_TABLE;
+        }
+        return consumeSql;
+    }
+}
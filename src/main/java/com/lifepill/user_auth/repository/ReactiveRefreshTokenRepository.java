@@ -0,0 +1,90 @@
+package com.lifepill.user_auth.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking access to the refresh_tokens table for the reactive token server.
+ * Shares the table with {@link RefreshTokenRepository}, so tokens issued by either stack
+ * can be refreshed or revoked by the other.
+ */
+@Repository
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+public class ReactiveRefreshTokenRepository {
+
+    private static final String FIND_VALID_WITH_OWNER =
+            "SELECT rt.id, u.id AS user_id, u.email, u.email_verified "
+                    + "FROM refresh_tokens rt JOIN users u ON u.id = rt.user_id "
+                    + "WHERE rt.token_hash = :tokenHash AND rt.revoked = false AND rt.expires_at > :currentTime "
+                    + "AND u.deleted_at IS NULL";
+
+    private static final String REVOKE_IF_VALID =
+            "UPDATE refresh_tokens SET revoked = true WHERE id = :id AND revoked = false";
+
+    private static final String INSERT =
+            "INSERT INTO refresh_tokens (id, user_id, token_hash, expires_at, revoked, created_at) "
+                    + "VALUES (:id, :userId, :tokenHash, :expiresAt, false, :createdAt)";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveRefreshTokenRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    /**
+     * Find a valid (not revoked, not expired) refresh token of a non-deleted user by its hash.
+     *
+     * @param tokenHash the token hash
+     * @param currentTime the current time for expiry comparison
+     * @return the token and its owner, or empty if not found or no longer valid
+     */
+    public Mono<RefreshTokenOwner> findValidWithOwner(String tokenHash, LocalDateTime currentTime) {
+        return databaseClient.sql(FIND_VALID_WITH_OWNER)
+                .bind("tokenHash", tokenHash)
+                .bind("currentTime", currentTime)
+                .map(row -> new RefreshTokenOwner(
+                        row.get("id", UUID.class),
+                        row.get("user_id", UUID.class),
+                        row.get("email", String.class),
+                        row.get("email_verified", Boolean.class)))
+                .first();
+    }
+
+    /**
+     * Revoke a refresh token unless it is already revoked.
+     * Of several concurrent calls for the same token only one sees {@code true}.
+     *
+     * @param id the refresh token row ID
+     * @return true if this call revoked the token
+     */
+    public Mono<Boolean> revokeIfValid(UUID id) {
+        return databaseClient.sql(REVOKE_IF_VALID)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows == 1);
+    }
+
+    /**
+     * Store a new refresh token.
+     *
+     * @param userId the owning user's ID
+     * @param tokenHash the token hash
+     * @param expiresAt the token expiry
+     * @return completes when the row is written
+     */
+    public Mono<Void> insert(UUID userId, String tokenHash, LocalDateTime expiresAt) {
+        return databaseClient.sql(INSERT)
+                .bind("id", UUID.randomUUID())
+                .bind("userId", userId)
+                .bind("tokenHash", tokenHash)
+                .bind("expiresAt", expiresAt)
+                .bind("createdAt", LocalDateTime.now())
+                .then();
+    }
+}
@@ -0,0 +1,14 @@
+package com.lifepill.user_auth.repository;
+
+import java.util.UUID;
+
+/**
+ * A valid refresh token together with the claims needed to sign its owner's next access token.
+ *
+ * @param tokenId the refresh token row ID
+ * @param userId the owning user's ID
+ * @param email the owning user's email
+ * @param emailVerified whether the owning user's email is verified
+ */
+public record RefreshTokenOwner(UUID tokenId, UUID userId, String email, Boolean emailVerified) {
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -85,4 +86,17 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
      */
     @Query("SELECT COUNT(rt) FROM RefreshToken rt WHERE rt.user.id = :userId AND rt.revoked = false AND rt.expiresAt > :currentTime")
     long countActiveByUserId(@Param("userId") UUID userId, @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Delete up to {@code limit} refresh tokens belonging to the given users.
+     * Used by the account purger to remove large token histories in bounded batches.
+     *
+     * @param userIds the user IDs
+     * @param limit the maximum number of rows to delete
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN "
+            + "(SELECT id FROM refresh_tokens WHERE user_id IN (:userIds) LIMIT :limit)", nativeQuery = true)
+    int deleteBatchByUserIds(@Param("userIds") List<UUID> userIds, @Param("limit") int limit);
 }
@@ -51,4 +51,14 @@ public interface UserAddressRepository extends JpaRepository<UserAddress, UUID>
     @Modifying
     @Query("UPDATE UserAddress ua SET ua.isPrimary = false WHERE ua.user.id = :userId")
     void setAllNonPrimaryForUser(@Param("userId") UUID userId);
+
+    /**
+     * Delete all addresses belonging to the given users.
+     *
+     * @param userIds the user IDs
+     * @return the number of deleted addresses
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_addresses WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteByUserIds(@Param("userIds") List<UUID> userIds);
 }
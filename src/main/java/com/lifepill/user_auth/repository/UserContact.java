@@ -0,0 +1,10 @@
+package com.lifepill.user_auth.repository;
+
+/**
+ * The fields needed to address an email to a user, without loading the entity.
+ *
+ * @param email the user's email
+ * @param firstName the user's first name
+ */
+public record UserContact(String email, String firstName) {
+}
@@ -0,0 +1,32 @@
+package com.lifepill.user_auth.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Change markers of everything rendered in a user profile.
+ * Address count is included so removed addresses change the version too.
+ *
+ * @param userUpdatedAt last update of the users row
+ * @param addressesUpdatedAt latest update of any address (null if none)
+ * @param addressCount number of addresses
+ */
+public record UserProfileVersion(LocalDateTime userUpdatedAt, LocalDateTime addressesUpdatedAt, long addressCount) {
+
+    /**
+     * Render the version as a strong ETag value (without quotes).
+     *
+     * @return the ETag value
+     */
+    public String toETag() {
+        return toMicros(userUpdatedAt) + "-" + toMicros(addressesUpdatedAt) + "-" + addressCount;
+    }
+
+    private static String toMicros(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+        return Long.toString(micros, 36);
+    }
+}
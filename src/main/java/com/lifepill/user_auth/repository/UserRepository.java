@@ -1,99 +1,89 @@
 package com.lifepill.user_auth.repository;
 
 import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.util.EmailAddress;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for User entity operations.
  * Provides data access methods for user management.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 
     /**
      * Find a user by email address.
+     * Compares on lower(email) so the lookup is served by the unique functional index.
      *
-     * @param email the email address to search for
+     * @param email the canonical email address to search for
      * @return an Optional containing the user if found
      */
-    Optional<User> findByEmail(String email);
+    @Query("SELECT u FROM User u WHERE lower(u.email) = :#{#email.value}")
+    Optional<User> findByEmail(@Param("email") EmailAddress email);
 
     /**
      * Check if a user exists with the given email.
      *
-     * @param email the email address to check
+     * @param email the canonical email address to check
      * @return true if a user exists with this email
      */
-    boolean existsByEmail(String email);
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE lower(u.email) = :#{#email.value}")
+    boolean existsByEmail(@Param("email") EmailAddress email);
 
     /**
-     * Find a user by email verification token.
+     * Look up the profile version of a user without loading the entity or its addresses.
+     * Backs conditional GETs of the profile.
      *
-     * @param token the verification token
-     * @return an Optional containing the user if found
-     */
-    Optional<User> findByEmailVerificationToken(String token);
-
-    /**
-     * Find a user by password reset token.
-     *
-     * @param token the password reset token
-     * @return an Optional containing the user if found
-     */
-    Optional<User> findByPasswordResetToken(String token);
-
-    /**
-     * Find a user by password reset token and check if not expired.
-     *
-     * @param token the password reset token
-     * @param currentTime the current time for expiry comparison
-     * @return an Optional containing the user if found and token not expired
+     * @param userId the user ID
+     * @return the version, or empty if the user does not exist
      */
-    @Query("SELECT u FROM User u WHERE u.passwordResetToken = :token AND u.passwordResetTokenExpiresAt > :currentTime")
-    Optional<User> findByPasswordResetTokenAndNotExpired(
-            @Param("token") String token,
-            @Param("currentTime") LocalDateTime currentTime
-    );
+    @Query("SELECT new com.lifepill.user_auth.repository.UserProfileVersion(u.updatedAt, MAX(a.updatedAt), COUNT(a)) "
+            + "FROM User u LEFT JOIN u.addresses a WHERE u.id = :userId GROUP BY u.id, u.updatedAt")
+    Optional<UserProfileVersion> findProfileVersion(@Param("userId") UUID userId);
 
     /**
-     * Find a user by email verification token and check if not expired.
+     * Look up the email and first name of a user without loading the entity.
      *
-     * @param token the verification token
-     * @param currentTime the current time for expiry comparison
-     * @return an Optional containing the user if found and token not expired
+     * @param userId the user ID
+     * @return the contact fields, or empty if the user does not exist
      */
-    @Query("SELECT u FROM User u WHERE u.emailVerificationToken = :token AND u.emailVerificationTokenExpiresAt > :currentTime")
-    Optional<User> findByEmailVerificationTokenAndNotExpired(
-            @Param("token") String token,
-            @Param("currentTime") LocalDateTime currentTime
-    );
+    @Query("SELECT new com.lifepill.user_auth.repository.UserContact(u.email, u.firstName) FROM User u WHERE u.id = :userId")
+    Optional<UserContact> findContactById(@Param("userId") UUID userId);
 
     /**
      * Update email verified status for a user.
+     * Also bumps updated_at, which versions the profile response.
      *
      * @param userId the user ID
      * @param verified the verification status
      */
     @Modifying
-    @Query("UPDATE User u SET u.emailVerified = :verified, u.emailVerificationToken = null, u.emailVerificationTokenExpiresAt = null WHERE u.id = :userId")
+    @Query("UPDATE User u SET u.emailVerified = :verified, u.updatedAt = LOCAL DATETIME WHERE u.id = :userId")
     void updateEmailVerified(@Param("userId") UUID userId, @Param("verified") boolean verified);
 
     /**
-     * Clear password reset token for a user.
+     * Update the password hash of a live user with a single statement.
+     * updated_at is left alone since the password is not part of the profile.
      *
      * @param userId the user ID
+     * @param passwordHash the new password hash
+     * @return the number of updated users (0 if not found or deleted)
      */
     @Modifying
-    @Query("UPDATE User u SET u.passwordResetToken = null, u.passwordResetTokenExpiresAt = null WHERE u.id = :userId")
-    void clearPasswordResetToken(@Param("userId") UUID userId);
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash WHERE u.id = :userId")
+    int updatePasswordHash(@Param("userId") UUID userId, @Param("passwordHash") String passwordHash);
 
     /**
      * Find a user by OAuth provider and provider ID.
@@ -112,4 +102,35 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return true if a user exists with this provider info
      */
     boolean existsByAuthProviderAndProviderId(String authProvider, String providerId);
+
+    /**
+     * Mark a user as deleted (tombstone) without removing any rows.
+     *
+     * @param userId the user ID
+     * @param deletedAt the deletion timestamp (UTC)
+     * @return the number of users marked (0 if not found or already deleted)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.deletedAt = :deletedAt WHERE u.id = :userId AND u.deletedAt IS NULL")
+    int markDeleted(@Param("userId") UUID userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Hard-delete tombstoned users by ID.
+     *
+     * @param userIds the user IDs
+     * @return the number of deleted users
+     */
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id IN (:userIds) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeByIds(@Param("userIds") List<UUID> userIds);
+
+    /**
+     * Stream the emails of all live users without materializing entities.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return a stream of stored (lowercase) emails
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
 }
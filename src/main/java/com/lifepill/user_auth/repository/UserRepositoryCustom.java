@@ -0,0 +1,34 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for atomic user registration and purge lookups.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Insert a new user (and its primary address, if any) unless a live user already owns the email.
+     * Relies on the unique email index instead of a separate existence check, so concurrent
+     * registrations for the same email cannot both succeed.
+     * On success the generated IDs are assigned to the given user and address; the user is not managed.
+     *
+     * @param user the new user with at most one address
+     * @return true if the user was inserted, false if the email is already taken
+     */
+    boolean insertIfEmailAvailable(User user);
+
+    /**
+     * Find IDs of tombstoned users eligible for purge, oldest first.
+     * Native query because the entity restriction hides tombstoned rows.
+     *
+     * @param cutoff only users deleted before this UTC time are returned
+     * @param limit the maximum number of IDs to return
+     * @return the user IDs to purge
+     */
+    List<UUID> findPurgeableIds(LocalDateTime cutoff, int limit);
+}
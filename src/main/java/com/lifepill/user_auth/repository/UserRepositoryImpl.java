@@ -0,0 +1,140 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.entity.UserAddress;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the atomic registration and purge lookup fragment.
+ * On PostgreSQL the user and address are written by one statement
+ * (INSERT ... ON CONFLICT on the active-email index, chained through a CTE), so only an email
+ * clash is swallowed and any other unique violation still fails; other databases (H2 in tests,
+ * which only supports the untargeted ON CONFLICT DO NOTHING) insert the address in a second
+ * statement only when the user row was written.
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final String INSERT_USER_VALUES =
+            "INSERT INTO users (id, email, password_hash, first_name, last_name, phone_number, date_of_birth, "
+                    + "email_verified, auth_provider) "
+                    + "VALUES (:id, :email, :passwordHash, :firstName, :lastName, :phoneNumber, :dateOfBirth, "
+                    + ":emailVerified, :authProvider) ";
+
+    /** Conflict target of uk_users_email_lower_active (V5). */
+    private static final String INSERT_USER_POSTGRES =
+            INSERT_USER_VALUES + "ON CONFLICT (lower(email)) WHERE deleted_at IS NULL DO NOTHING";
+
+    private static final String INSERT_USER =
+            INSERT_USER_VALUES + "ON CONFLICT DO NOTHING";
+
+    private static final String INSERT_ADDRESS =
+            "INSERT INTO user_addresses (id, user_id, street, city, state, zip_code, country, is_primary) "
+                    + "VALUES (:addressId, :id, :street, :city, :state, :zipCode, :country, :isPrimary)";
+
+    private static final String INSERT_USER_WITH_ADDRESS_POSTGRES =
+            "WITH inserted_user AS (" + INSERT_USER_POSTGRES + " RETURNING id), "
+                    + "inserted_address AS ("
+                    + "INSERT INTO user_addresses (id, user_id, street, city, state, zip_code, country, is_primary) "
+                    + "SELECT :addressId, id, :street, :city, :state, :zipCode, :country, :isPrimary "
+                    + "FROM inserted_user WHERE :hasAddress) "
+                    + "SELECT COUNT(*) FROM inserted_user";
+
+    private static final String SELECT_PURGEABLE_IDS =
+            "SELECT id FROM users WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff ORDER BY deleted_at LIMIT :limit";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public boolean insertIfEmailAvailable(User user) {
+        UUID userId = UUID.randomUUID();
+        UserAddress address = user.getPrimaryAddress();
+        UUID addressId = address != null ? UUID.randomUUID() : null;
+
+        boolean inserted;
+        if (isPostgres()) {
+            Query query = entityManager.createNativeQuery(INSERT_USER_WITH_ADDRESS_POSTGRES);
+            bindUser(query, userId, user);
+            bindAddress(query, addressId, address);
+            query.setParameter("hasAddress", address != null);
+            inserted = ((Number) query.getSingleResult()).intValue() == 1;
+        } else {
+            Query userQuery = entityManager.createNativeQuery(INSERT_USER);
+            bindUser(userQuery, userId, user);
+            inserted = userQuery.executeUpdate() == 1;
+
+            if (inserted && address != null) {
+                Query addressQuery = entityManager.createNativeQuery(INSERT_ADDRESS);
+                addressQuery.setParameter("id", userId);
+                bindAddress(addressQuery, addressId, address);
+                addressQuery.executeUpdate();
+            }
+        }
+
+        if (inserted) {
+            user.setId(userId);
+            if (address != null) {
+                address.setId(addressId);
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> findPurgeableIds(LocalDateTime cutoff, int limit) {
+        // Typed scalar: H2 reports UUID columns as BINARY, which would otherwise come back as byte[]
+        return entityManager.createNativeQuery(SELECT_PURGEABLE_IDS)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    private void bindUser(Query query, UUID userId, User user) {
+        query.setParameter("id", userId);
+        query.setParameter("email", user.getEmail());
+        query.setParameter("passwordHash", user.getPasswordHash());
+        query.setParameter("firstName", user.getFirstName());
+        query.setParameter("lastName", user.getLastName());
+        query.unwrap(org.hibernate.query.Query.class)
+                .setParameter("phoneNumber", user.getPhoneNumber(), String.class)
+                .setParameter("dateOfBirth", user.getDateOfBirth(), LocalDate.class);
+        query.setParameter("emailVerified", Boolean.TRUE.equals(user.getEmailVerified()));
+        query.setParameter("authProvider", user.getAuthProvider());
+    }
+
+    private void bindAddress(Query query, UUID addressId, UserAddress address) {
+        org.hibernate.query.Query<?> typedQuery = query.unwrap(org.hibernate.query.Query.class);
+        typedQuery.setParameter("addressId", addressId, UUID.class);
+        typedQuery.setParameter("street", address != null ? address.getStreet() : null, String.class);
+        typedQuery.setParameter("city", address != null ? address.getCity() : null, String.class);
+        typedQuery.setParameter("state", address != null ? address.getState() : null, String.class);
+        typedQuery.setParameter("zipCode", address != null ? address.getZipCode() : null, String.class);
+        typedQuery.setParameter("country", address != null ? address.getCountry() : null, String.class);
+        typedQuery.setParameter("isPrimary", address == null || Boolean.TRUE.equals(address.getIsPrimary()), Boolean.class);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,121 @@
+package com.lifepill.user_auth.security;
+
+import com.lifepill.user_auth.entity.AccessTokenRevocation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory list of revoked access tokens, checked on every authenticated request.
+ * Holds revoked jtis and per-user "not before" cutoffs, each only until the tokens it covers
+ * have expired, so the list stays as small as the number of recent revocations.
+ * A check is at most two hash lookups and never touches the database.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, UserCutoff> userCutoffs = new ConcurrentHashMap<>();
+
+    /**
+     * Tokens of a user issued at or before notBefore are revoked; the entry lapses at expiresAt.
+     * Token iat has whole-second precision, so a token from the second of the cutoff is revoked too.
+     */
+    private record UserCutoff(long notBefore, long expiresAt) {
+    }
+
+    public AccessTokenRevocationList(MeterRegistry meterRegistry) {
+        Gauge.builder("security.revocations.tokens", revokedTokens, Map::size)
+                .description("Number of individually revoked access tokens held in memory")
+                .register(meterRegistry);
+        Gauge.builder("security.revocations.users", userCutoffs, Map::size)
+                .description("Number of per-user access token cutoffs held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revoke a single access token.
+     *
+     * @param jti the token ID
+     * @param expiresAt the token expiry in epoch seconds
+     */
+    public void revokeToken(String jti, long expiresAt) {
+        revokedTokens.put(jti, expiresAt);
+    }
+
+    /**
+     * Revoke all access tokens of a user issued up to a cutoff. The latest cutoff wins.
+     *
+     * @param userId the user ID
+     * @param notBefore the cutoff in epoch seconds
+     * @param expiresAt when all covered tokens have expired, in epoch seconds
+     */
+    public void revokeUser(UUID userId, long notBefore, long expiresAt) {
+        userCutoffs.merge(userId, new UserCutoff(notBefore, expiresAt),
+                (current, update) -> current.notBefore() >= update.notBefore() ? current : update);
+    }
+
+    /**
+     * Add a persisted or propagated revocation.
+     *
+     * @param revocation the revocation (by jti or by user)
+     */
+    public void add(AccessTokenRevocation revocation) {
+        long expiresAt = toEpochSecond(revocation.getExpiresAt());
+        if (revocation.getJti() != null) {
+            revokeToken(revocation.getJti(), expiresAt);
+        } else {
+            revokeUser(revocation.getUserId(), toEpochSecond(revocation.getNotBefore()), expiresAt);
+        }
+    }
+
+    /**
+     * Check whether an access token has been revoked.
+     *
+     * @param jti the token ID (may be null for tokens issued before jtis were added)
+     * @param userId the token subject
+     * @param issuedAt the token issue time in epoch seconds
+     * @return true if the token is revoked
+     */
+    public boolean isRevoked(String jti, UUID userId, long issuedAt) {
+        if (jti != null && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+        UserCutoff cutoff = userCutoffs.get(userId);
+        return cutoff != null && issuedAt <= cutoff.notBefore();
+    }
+
+    /**
+     * Periodically remove entries whose tokens have expired.
+     * Runs every minute.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void cleanupExpiredEntries() {
+        long now = Instant.now().getEpochSecond();
+        int initialSize = revokedTokens.size() + userCutoffs.size();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        userCutoffs.values().removeIf(cutoff -> cutoff.expiresAt() < now);
+
+        int removed = initialSize - revokedTokens.size() - userCutoffs.size();
+        if (removed > 0) {
+            log.debug("Cleaned up {} expired access token revocations", removed);
+        }
+    }
+
+    /**
+     * Revocation timestamps are stored in UTC.
+     */
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
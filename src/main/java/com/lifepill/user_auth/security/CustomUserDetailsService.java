@@ -2,6 +2,7 @@ package com.lifepill.user_auth.security;
 
 import com.lifepill.user_auth.entity.User;
 import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.util.EmailAddress;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -24,7 +25,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email.toLowerCase())
+        User user = userRepository.findByEmail(EmailAddress.of(email))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         return UserPrincipal.create(user);
@@ -0,0 +1,81 @@
+package com.lifepill.user_auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Authenticates the services allowed to call the introspection endpoint.
+ * Callers present the gateway client credential with HTTP Basic (RFC 7662, section 2.1), on the
+ * servlet stack through SecurityConfig and on the reactive token server through
+ * ReactiveAuthHandler. Without a configured credential every introspection request is rejected.
+ */
+@Slf4j
+@Component
+public class IntrospectionClientAuthenticator {
+
+    /** Authority granted to an authenticated introspection client. */
+    public static final String INTROSPECTION_CLIENT_AUTHORITY = "INTROSPECTION_CLIENT";
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    @Value("${introspection.client-id:}")
+    private String clientId;
+
+    @Value("${introspection.client-secret:}")
+    private String clientSecret;
+
+    /**
+     * Check a client credential.
+     *
+     * @param id the client id
+     * @param secret the client secret
+     * @return true if the credential is the configured one
+     */
+    public boolean matches(String id, String secret) {
+        if (!StringUtils.hasText(clientId) || !StringUtils.hasText(clientSecret) || id == null || secret == null) {
+            return false;
+        }
+        // Compare both in constant time so neither part can be guessed byte by byte
+        boolean idMatches = MessageDigest.isEqual(
+                clientId.getBytes(StandardCharsets.UTF_8), id.getBytes(StandardCharsets.UTF_8));
+        boolean secretMatches = MessageDigest.isEqual(
+                clientSecret.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8));
+        return idMatches && secretMatches;
+    }
+
+    /**
+     * Authenticate an HTTP Basic Authorization header.
+     *
+     * @param authorizationHeader the Authorization header value, may be null
+     * @return the client id if the credential is valid
+     */
+    public Optional<String> authenticate(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return Optional.empty();
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getDecoder().decode(authorizationHeader.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String id = decoded.substring(0, separator);
+        if (!matches(id, decoded.substring(separator + 1))) {
+            log.warn("Rejected introspection client credentials");
+            return Optional.empty();
+        }
+        return Optional.of(id);
+    }
+}
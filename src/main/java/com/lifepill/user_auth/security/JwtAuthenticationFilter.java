@@ -1,6 +1,8 @@
 package com.lifepill.user_auth.security;
 
 import com.lifepill.user_auth.service.JwtService;
+import com.lifepill.user_auth.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,6 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -44,8 +47,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtService.validateToken(jwt) && jwtService.isAccessToken(jwt)) {
-                UUID userId = jwtService.extractUserId(jwt);
+            // Parse once; signature, expiry and type are all checked on the same claims
+            Claims claims = StringUtils.hasText(jwt)
+                    ? jwtService.parseClaims(jwt)
+                            .filter(c -> JwtService.ACCESS_TOKEN_TYPE.equals(c.get(JwtService.TOKEN_TYPE_CLAIM, String.class)))
+                            .orElse(null)
+                    : null;
+
+            if (claims != null && !isRevoked(claims)) {
+                UUID userId = UUID.fromString(claims.getSubject());
                 UserDetails userDetails = userDetailsService.loadUserById(userId);
 
                 UsernamePasswordAuthenticationToken authentication =
@@ -67,6 +77,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isRevoked(Claims claims) {
+        boolean revoked = tokenRevocationService.isRevoked(claims.getId(), UUID.fromString(claims.getSubject()),
+                claims.getIssuedAt().toInstant().getEpochSecond());
+        if (revoked) {
+            log.debug("Rejected revoked access token for user: {}", claims.getSubject());
+        }
+        return revoked;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
 
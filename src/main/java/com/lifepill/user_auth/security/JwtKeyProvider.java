@@ -0,0 +1,313 @@
+package com.lifepill.user_auth.security;
+
+import com.lifepill.user_auth.config.JwtSigningProperties;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JWT key ring: one active signing key and any number of verification keys, resolved in O(1)
+ * by the {@code kid} token header. Also keeps the serialized JWK Set of the public verification
+ * keys in memory, so the JWKS endpoint never does any work per request.
+ * <p>
+ * The ring is an immutable snapshot swapped atomically on {@code /actuator/refresh}, so rotating
+ * keys neither restarts the service nor invalidates tokens in flight. The ring is built from the
+ * configuration alone, so every instance and every restart agrees on it: a rotation is only
+ * accepted while the previously active key stays configured with a {@code retire-at} that covers
+ * the overlap window.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyProvider extends LocatorAdapter<Key> {
+
+    private static final String ALGORITHM_HS256 = "HS256";
+    private static final String ALGORITHM_ES256 = "ES256";
+    private static final String EPHEMERAL_KID_PREFIX = "ephemeral-";
+
+    private final JwtSigningProperties properties;
+    private final Environment environment;
+
+    private volatile KeySet keySet;
+
+    /**
+     * A verification key and when it stops being accepted.
+     *
+     * @param key the public key (ES256) or secret (HS256)
+     * @param retireAt the retirement instant, or null to keep it until removed from configuration
+     */
+    private record VerificationKey(Key key, Instant retireAt) {
+
+        boolean isRetired(Instant now) {
+            return retireAt != null && now.isAfter(retireAt);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the keys in use.
+     *
+     * @param signingKey the key new tokens are signed with
+     * @param signingKid the kid written to new token headers (null when signing with jwt.secret)
+     * @param legacyHmacKey the jwt.secret key verifying tokens without kid (null if not accepted)
+     * @param verificationKeys verification keys by kid
+     * @param jwksJson the serialized JWK Set of the public verification keys
+     */
+    private record KeySet(Key signingKey, String signingKid, SecretKey legacyHmacKey,
+                          Map<String, VerificationKey> verificationKeys, byte[] jwksJson) {
+    }
+
+    @PostConstruct
+    void init() {
+        keySet = loadKeySet(null);
+    }
+
+    /**
+     * Get the key used to sign new tokens.
+     */
+    public Key getSigningKey() {
+        return keySet.signingKey();
+    }
+
+    /**
+     * Get the key ID for new token headers, or null when signing with the shared secret.
+     */
+    public String getSigningKid() {
+        return keySet.signingKid();
+    }
+
+    /**
+     * Get the serialized JWK Set ({@code {"keys":[...]}}) of all public verification keys.
+     */
+    public byte[] getJwksJson() {
+        return keySet.jwksJson();
+    }
+
+    /**
+     * Get the cache lifetime advertised for the JWK Set.
+     */
+    public long getJwksMaxAgeSeconds() {
+        return properties.getJwksMaxAgeSeconds();
+    }
+
+    /**
+     * Rebuild the ring after configuration properties have been rebound by a refresh.
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void onRefresh() {
+        reload();
+    }
+
+    /**
+     * Rebuild the ring from the current configuration. An invalid configuration, including a
+     * rotation that drops the previous signing key too early, is rejected and the current ring
+     * stays in use.
+     */
+    public synchronized void reload() {
+        try {
+            keySet = loadKeySet(keySet);
+        } catch (RuntimeException e) {
+            log.error("Rejected JWT key configuration; keeping current keys", e);
+        }
+    }
+
+    /**
+     * Periodically drop retired keys so they also disappear from the published JWK Set.
+     * Runs every minute.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void pruneRetiredKeys() {
+        Instant now = Instant.now();
+        if (keySet.verificationKeys().values().stream().anyMatch(key -> key.isRetired(now))) {
+            reload();
+        }
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        KeySet current = keySet;
+        String kid = header.getKeyId();
+
+        if (kid == null) {
+            // Tokens without kid were signed with the shared secret
+            if (current.legacyHmacKey() == null) {
+                throw new UnsupportedJwtException("Token has no key ID");
+            }
+            return current.legacyHmacKey();
+        }
+
+        VerificationKey key = current.verificationKeys().get(kid);
+        if (key == null || key.isRetired(Instant.now())) {
+            throw new UnsupportedJwtException("Unknown or retired key ID: " + kid);
+        }
+        return key.key();
+    }
+
+    private KeySet loadKeySet(KeySet previous) {
+        Instant now = Instant.now();
+        String algorithm = properties.getAlgorithm().toUpperCase();
+        String secret = environment.getProperty("jwt.secret");
+        SecretKey hmacKey = StringUtils.hasText(secret) ? Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)) : null;
+
+        Map<String, VerificationKey> verificationKeys = new LinkedHashMap<>();
+        Key signingKey = null;
+        String signingKid = null;
+
+        for (JwtSigningProperties.Key key : properties.getKeys()) {
+            if (!StringUtils.hasText(key.getKid())) {
+                continue;
+            }
+            boolean active = key.getKid().equals(properties.getActiveKid());
+            if (StringUtils.hasText(key.getSecret())) {
+                SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.getSecret()));
+                verificationKeys.put(key.getKid(), new VerificationKey(secretKey, key.getRetireAt()));
+                if (active && ALGORITHM_HS256.equals(algorithm)) {
+                    signingKey = secretKey;
+                    signingKid = key.getKid();
+                }
+            } else if (StringUtils.hasText(key.getPublicKey())) {
+                PublicKey publicKey = parsePublicKey(key.getPublicKey());
+                verificationKeys.put(key.getKid(), new VerificationKey(publicKey, key.getRetireAt()));
+                if (active && ALGORITHM_ES256.equals(algorithm) && StringUtils.hasText(key.getPrivateKey())) {
+                    signingKey = parsePrivateKey(key.getPrivateKey());
+                    signingKid = key.getKid();
+                }
+            }
+        }
+
+        if (ALGORITHM_ES256.equals(algorithm)) {
+            if (signingKey == null) {
+                if (!properties.isAllowEphemeralKey()) {
+                    throw new IllegalStateException(
+                            "No ES256 private key configured for jwt.signing.active-kid '" + properties.getActiveKid() + "'");
+                }
+                if (previous != null && previous.signingKid() != null
+                        && previous.signingKid().startsWith(EPHEMERAL_KID_PREFIX)) {
+                    signingKey = previous.signingKey();
+                    signingKid = previous.signingKid();
+                    verificationKeys.put(signingKid, previous.verificationKeys().get(signingKid));
+                } else {
+                    // Tokens signed with a generated key do not survive restarts or verify on other nodes
+                    KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+                    signingKey = keyPair.getPrivate();
+                    signingKid = EPHEMERAL_KID_PREFIX + UUID.randomUUID().toString().substring(0, 8);
+                    verificationKeys.put(signingKid, new VerificationKey(keyPair.getPublic(), null));
+                    log.warn("No ES256 signing key configured for kid '{}'; generated ephemeral key '{}'",
+                            properties.getActiveKid(), signingKid);
+                }
+            }
+        } else if (ALGORITHM_HS256.equals(algorithm)) {
+            if (signingKey == null) {
+                if (hmacKey == null) {
+                    throw new IllegalStateException("jwt.secret is required when no HS256 key matches jwt.signing.active-kid");
+                }
+                signingKey = hmacKey;
+            }
+        } else {
+            throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + properties.getAlgorithm());
+        }
+
+        if (previous != null) {
+            validateRotation(previous, signingKid, now);
+        }
+        verificationKeys.values().removeIf(key -> key.isRetired(now));
+
+        // Kid-less tokens: always when signing with jwt.secret, otherwise only during migration
+        boolean acceptHmac = signingKid == null || properties.isAcceptLegacyHmac();
+        SecretKey legacyHmacKey = acceptHmac ? hmacKey : null;
+
+        log.info("JWT signing with {} (kid: {}), verification kids: {}",
+                algorithm, signingKid, verificationKeys.keySet());
+        return new KeySet(signingKey, signingKid, legacyHmacKey, Map.copyOf(verificationKeys),
+                toJwksJson(verificationKeys));
+    }
+
+    /**
+     * When active-kid changes, require the previous signing key to stay configured until at least
+     * rotation-overlap from now, so tokens it signed keep verifying on every instance and across
+     * restarts.
+     */
+    private void validateRotation(KeySet previous, String signingKid, Instant now) {
+        String previousKid = previous.signingKid();
+        if (previousKid == null || previousKid.equals(signingKid) || previousKid.startsWith(EPHEMERAL_KID_PREFIX)) {
+            return;
+        }
+        JwtSigningProperties.Key previousKey = properties.getKeys().stream()
+                .filter(key -> previousKid.equals(key.getKid()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Previous signing key '" + previousKid + "' must stay in jwt.signing.keys with a retire-at"));
+        Instant earliestRetireAt = now.plus(properties.getRotationOverlap());
+        if (previousKey.getRetireAt() == null || previousKey.getRetireAt().isBefore(earliestRetireAt)) {
+            throw new IllegalStateException("Previous signing key '" + previousKid
+                    + "' needs a retire-at no earlier than " + earliestRetireAt);
+        }
+        log.info("Previous signing key '{}' keeps verifying until {}", previousKid, previousKey.getRetireAt());
+    }
+
+    private byte[] toJwksJson(Map<String, VerificationKey> verificationKeys) {
+        String keys = verificationKeys.entrySet().stream()
+                .filter(entry -> entry.getValue().key() instanceof ECPublicKey)
+                .map(entry -> Jwks.json(Jwks.builder()
+                        .key((ECPublicKey) entry.getValue().key())
+                        .id(entry.getKey())
+                        .algorithm(ALGORITHM_ES256)
+                        .publicKeyUse("sig")
+                        .build()))
+                .collect(Collectors.joining(","));
+        return ("{\"keys\":[" + keys + "]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private PublicKey parsePublicKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid EC public key in jwt.signing.keys", e);
+        }
+    }
+
+    private PrivateKey parsePrivateKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid EC private key in jwt.signing.keys", e);
+        }
+    }
+
+    private byte[] decodePem(String encoded) {
+        String base64 = encoded
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
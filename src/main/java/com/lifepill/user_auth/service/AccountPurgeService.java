@@ -0,0 +1,15 @@
+package com.lifepill.user_auth.service;
+
+/**
+ * Service interface for purging soft-deleted accounts.
+ * Defines the contract for the background hard-delete of tombstoned users.
+ */
+public interface AccountPurgeService {
+
+    /**
+     * Hard-delete tombstoned users and their addresses and refresh tokens in throttled batches.
+     *
+     * @return the number of users purged in this run
+     */
+    int purgeDeletedAccounts();
+}
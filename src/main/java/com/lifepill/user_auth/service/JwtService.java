@@ -1,7 +1,9 @@
 package com.lifepill.user_auth.service;
 
 import com.lifepill.user_auth.entity.User;
+import io.jsonwebtoken.Claims;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -10,6 +12,12 @@ import java.util.UUID;
  */
 public interface JwtService {
 
+    String TOKEN_TYPE_CLAIM = "type";
+    String EMAIL_CLAIM = "email";
+    String EMAIL_VERIFIED_CLAIM = "emailVerified";
+    String ACCESS_TOKEN_TYPE = "access";
+    String REFRESH_TOKEN_TYPE = "refresh";
+
     /**
      * Generate access token for a user.
      *
@@ -50,6 +58,14 @@ public interface JwtService {
      */
     boolean validateToken(String token);
 
+    /**
+     * Verify a token and return its claims in a single parse.
+     *
+     * @param token the JWT token
+     * @return the claims, or empty if the token is malformed, badly signed or expired
+     */
+    Optional<Claims> parseClaims(String token);
+
     /**
      * Check if token is an access token.
      *
@@ -66,6 +82,13 @@ public interface JwtService {
      */
     boolean isRefreshToken(String token);
 
+    /**
+     * Get the access token expiration time in milliseconds.
+     *
+     * @return expiration time in milliseconds
+     */
+    long getAccessTokenExpirationMs();
+
     /**
      * Get the refresh token expiration time in milliseconds.
      *
@@ -0,0 +1,38 @@
+package com.lifepill.user_auth.service;
+
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service interface for single-use token management.
+ * Defines the contract for email verification and password reset tokens.
+ */
+public interface OneTimeTokenService {
+
+    /**
+     * Issue a new token, replacing any outstanding token of the same type for the user.
+     *
+     * @param userId the user ID
+     * @param tokenType the token type
+     * @param validity how long the token stays valid
+     * @return the raw token value to send to the user
+     */
+    String issueToken(UUID userId, OneTimeTokenType tokenType, Duration validity);
+
+    /**
+     * Consume a token so it cannot be used again.
+     *
+     * @param tokenValue the raw token value
+     * @param tokenType the expected token type
+     * @return an Optional containing the user ID if the token was valid
+     */
+    Optional<UUID> consumeToken(String tokenValue, OneTimeTokenType tokenType);
+
+    /**
+     * Clean up expired tokens.
+     */
+    void cleanupExpiredTokens();
+}
@@ -0,0 +1,20 @@
+package com.lifepill.user_auth.service;
+
+import com.lifepill.user_auth.dto.response.TokenResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking token refresh for the reactive token server.
+ * Same contract as {@link AuthService#refreshToken}, on R2DBC instead of JPA.
+ */
+public interface ReactiveTokenRefreshService {
+
+    /**
+     * Rotate a refresh token: revoke it and issue a new access and refresh token pair.
+     *
+     * @param refreshToken the refresh token to rotate
+     * @return the new tokens, or an {@link com.lifepill.user_auth.exception.InvalidTokenException}
+     *         error if the token is invalid, expired, revoked or already rotated
+     */
+    Mono<TokenResponse> refreshToken(String refreshToken);
+}
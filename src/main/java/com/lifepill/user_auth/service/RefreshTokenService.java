@@ -4,6 +4,7 @@ import com.lifepill.user_auth.entity.RefreshToken;
 import com.lifepill.user_auth.entity.User;
 
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Service interface for refresh token management.
@@ -38,9 +39,9 @@ public interface RefreshTokenService {
     /**
      * Revoke all refresh tokens for a user.
      *
-     * @param user the user entity
+     * @param userId the user ID
      */
-    void revokeAllUserTokens(User user);
+    void revokeAllUserTokens(UUID userId);
 
     /**
      * Clean up expired and revoked tokens.
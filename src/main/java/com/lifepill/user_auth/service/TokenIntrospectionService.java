@@ -0,0 +1,28 @@
+package com.lifepill.user_auth.service;
+
+import com.lifepill.user_auth.dto.response.IntrospectionResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for token introspection.
+ * Lets other services validate access tokens without sharing the signing secret.
+ */
+public interface TokenIntrospectionService {
+
+    /**
+     * Introspect a single token.
+     *
+     * @param token the access token
+     * @return the introspection result; inactive if the token is invalid, expired or not an access token
+     */
+    IntrospectionResponse introspect(String token);
+
+    /**
+     * Introspect a batch of tokens.
+     *
+     * @param tokens the access tokens
+     * @return the introspection results in request order
+     */
+    List<IntrospectionResponse> introspect(List<String> tokens);
+}
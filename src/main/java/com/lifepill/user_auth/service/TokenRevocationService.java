@@ -0,0 +1,41 @@
+package com.lifepill.user_auth.service;
+
+import java.util.UUID;
+
+/**
+ * Service interface for access token revocation.
+ * Access tokens are stateless, so revocations are held in memory on every instance and
+ * checked on each authenticated request.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revoke a single access token until it expires.
+     * Invalid, expired or non-access tokens are ignored.
+     *
+     * @param accessToken the access token
+     */
+    void revokeAccessToken(String accessToken);
+
+    /**
+     * Revoke every access token issued to a user up to now.
+     *
+     * @param userId the user ID
+     */
+    void revokeAllAccessTokens(UUID userId);
+
+    /**
+     * Check whether an access token has been revoked.
+     *
+     * @param jti the token ID (may be null)
+     * @param userId the token subject
+     * @param issuedAt the token issue time in epoch seconds
+     * @return true if revoked
+     */
+    boolean isRevoked(String jti, UUID userId, long issuedAt);
+
+    /**
+     * Delete revocations whose tokens have expired.
+     */
+    void cleanupExpiredRevocations();
+}
@@ -19,6 +19,15 @@ public interface UserService {
      */
     UserProfileResponse getProfile(UUID userId);
 
+    /**
+     * Get the current profile version as an ETag value, without loading the profile.
+     * Changes whenever the user or any of their addresses is updated.
+     *
+     * @param userId the user ID
+     * @return the ETag value (without quotes)
+     */
+    String getProfileETag(UUID userId);
+
     /**
      * Update user profile.
      *
@@ -30,7 +39,8 @@ public interface UserService {
 
     /**
      * Delete user account.
-     * This will permanently delete the user and all associated data.
+     * The account is tombstoned and its sessions revoked immediately;
+     * the user and all associated data are permanently removed by the background purge.
      *
      * @param userId the user ID
      */
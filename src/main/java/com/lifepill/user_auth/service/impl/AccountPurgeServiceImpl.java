@@ -0,0 +1,155 @@
+package com.lifepill.user_auth.service.impl;
+
+import com.lifepill.user_auth.repository.OneTimeTokenRepository;
+import com.lifepill.user_auth.repository.RefreshTokenRepository;
+import com.lifepill.user_auth.repository.UserAddressRepository;
+import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.service.AccountPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Implementation of AccountPurgeService.
+ * Removes tombstoned users in small batches, each in its own short transaction,
+ * pausing between batches so purging never competes with user-facing traffic.
+ * On PostgreSQL a run first takes an advisory lock, so only one instance purges at a time
+ * instead of every replica deleting the same oldest tombstones concurrently.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountPurgeServiceImpl implements AccountPurgeService {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    /** Advisory lock key shared by all instances ("purge" in ASCII). */
+    private static final long PURGE_LOCK_KEY = 0x7075726765L;
+
+    private final UserRepository userRepository;
+    private final UserAddressRepository userAddressRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final OneTimeTokenRepository oneTimeTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+
+    @Value("${account.purge.grace-period-minutes:0}")
+    private long gracePeriodMinutes;
+
+    @Value("${account.purge.batch-size:100}")
+    private int batchSize;
+
+    @Value("${account.purge.token-batch-size:5000}")
+    private int tokenBatchSize;
+
+    @Value("${account.purge.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${account.purge.pause-ms:200}")
+    private long pauseMs;
+
+    @Override
+    @Scheduled(cron = "${account.purge.cron:0 */15 * * * *}")
+    public int purgeDeletedAccounts() {
+        // The lock lives in a transaction on its own connection for the whole run; ending that
+        // transaction (or losing the connection) releases it
+        try (Connection lockConnection = dataSource.getConnection()) {
+            boolean postgres = POSTGRESQL.equals(lockConnection.getMetaData().getDatabaseProductName());
+            if (postgres) {
+                lockConnection.setAutoCommit(false);
+                if (!tryPurgeLock(lockConnection)) {
+                    log.debug("Account purge is running on another instance; skipping this run");
+                    lockConnection.rollback();
+                    return 0;
+                }
+            }
+            try {
+                return purgeBatches();
+            } finally {
+                if (postgres) {
+                    lockConnection.rollback();
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not take the account purge lock", e);
+        }
+    }
+
+    private int purgeBatches() {
+        // Tombstones are written in UTC, so every node computes the same cutoff
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(gracePeriodMinutes);
+        int purged = 0;
+        int batches = 0;
+
+        while (batches < maxBatchesPerRun) {
+            List<UUID> userIds = userRepository.findPurgeableIds(cutoff, batchSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            // Large token histories are removed in bounded chunks before the user rows
+            int deletedTokens;
+            do {
+                deletedTokens = executeInTransaction(
+                        () -> refreshTokenRepository.deleteBatchByUserIds(userIds, tokenBatchSize));
+                batches++;
+                pause();
+            } while (deletedTokens >= tokenBatchSize && batches < maxBatchesPerRun);
+
+            if (deletedTokens >= tokenBatchSize) {
+                break; // Budget exhausted mid-batch; continue on the next run
+            }
+
+            purged += executeInTransaction(() -> {
+                userAddressRepository.deleteByUserIds(userIds);
+                oneTimeTokenRepository.deleteByUserIds(userIds);
+                return userRepository.purgeByIds(userIds);
+            });
+            pause();
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} soft-deleted accounts", purged);
+        }
+        return purged;
+    }
+
+    private boolean tryPurgeLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_xact_lock(?)")) {
+            statement.setLong(1, PURGE_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private int executeInTransaction(IntSupplier work) {
+        Integer result = transactionTemplate.execute(status -> work.getAsInt());
+        return result != null ? result : 0;
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
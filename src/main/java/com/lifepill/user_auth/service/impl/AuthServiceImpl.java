@@ -1,22 +1,31 @@
 package com.lifepill.user_auth.service.impl;
 
+import com.lifepill.user_auth.cache.CacheInvalidationBus;
+import com.lifepill.user_auth.cache.KnownEmailFilter;
+import com.lifepill.user_auth.cache.UnknownEmailCache;
 import com.lifepill.user_auth.dto.request.*;
 import com.lifepill.user_auth.dto.response.*;
+import com.lifepill.user_auth.entity.OneTimeTokenType;
 import com.lifepill.user_auth.entity.RefreshToken;
 import com.lifepill.user_auth.entity.User;
 import com.lifepill.user_auth.entity.UserAddress;
 import com.lifepill.user_auth.exception.*;
 import com.lifepill.user_auth.mapper.UserMapper;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import com.lifepill.user_auth.repository.UserContact;
 import com.lifepill.user_auth.repository.UserRepository;
 import com.lifepill.user_auth.service.*;
+import com.lifepill.user_auth.util.EmailAddress;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,8 +38,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
-    private static final int VERIFICATION_TOKEN_EXPIRY_HOURS = 24;
-    private static final int PASSWORD_RESET_TOKEN_EXPIRY_HOURS = 1;
+    private static final Duration VERIFICATION_TOKEN_VALIDITY = Duration.ofHours(24);
+    private static final Duration PASSWORD_RESET_TOKEN_VALIDITY = Duration.ofHours(1);
     private static final String AUTH_PROVIDER_LOCAL = "local";
     private static final String AUTH_PROVIDER_GOOGLE = "google";
 
@@ -38,32 +47,44 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
+    private final OneTimeTokenService oneTimeTokenService;
+    // Resolved on first send, so the mail beans can initialize lazily (startup.lazy-beans)
+    @Lazy
     private final EmailService emailService;
     private final GoogleOAuthService googleOAuthService;
     private final UserMapper userMapper;
+    private final KnownEmailFilter knownEmailFilter;
+    private final UnknownEmailCache unknownEmailCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
+
+    // Hash compared against when the account does not exist, so misses cost the same as bad passwords
+    private String dummyPasswordHash;
+
+    @PostConstruct
+    void initDummyPasswordHash() {
+        dummyPasswordHash = passwordEncoder.encode(generateSecureToken());
+    }
 
     @Override
     @Transactional
     public AuthResponse register(RegisterRequest request) {
         log.info("Processing registration for email: {}", request.getEmail());
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail().toLowerCase())) {
-            throw new EmailAlreadyExistsException(request.getEmail());
-        }
+        EmailAddress email = EmailAddress.of(request.getEmail());
 
         // Create user entity
         User user = User.builder()
-                .email(request.getEmail().toLowerCase().trim())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .email(email.getValue())
+                .passwordHash(authMetrics.record(AuthMetrics.PHASE_PASSWORD_HASH, AuthMetrics.OPERATION_REGISTER,
+                        () -> passwordEncoder.encode(request.getPassword())))
                 .firstName(request.getFirstName().trim())
                 .lastName(request.getLastName().trim())
                 .phoneNumber(request.getPhoneNumber())
                 .dateOfBirth(request.getDateOfBirth() != null ? LocalDate.parse(request.getDateOfBirth()) : null)
                 .emailVerified(false)
                 .authProvider(AUTH_PROVIDER_LOCAL)
-                .emailVerificationToken(generateSecureToken())
-                .emailVerificationTokenExpiresAt(LocalDateTime.now().plusHours(VERIFICATION_TOKEN_EXPIRY_HOURS))
                 .build();
 
         // Add address if provided
@@ -72,38 +93,61 @@ public class AuthServiceImpl implements AuthService {
             user.addAddress(address);
         }
 
-        // Save user
-        User savedUser = userRepository.save(user);
-        log.info("User registered successfully with ID: {}", savedUser.getId());
+        // Insert atomically; the unique email index decides concurrent registrations
+        if (!authMetrics.record(AuthMetrics.PHASE_USER_INSERT, AuthMetrics.OPERATION_REGISTER,
+                () -> userRepository.insertIfEmailAvailable(user))) {
+            throw new EmailAlreadyExistsException(request.getEmail());
+        }
+        invalidationBus.publish(CacheInvalidationBus.TOPIC_EMAIL_REGISTERED, email.getValue());
+        log.info("User registered successfully with ID: {}", user.getId());
+
+        // Issue verification token
+        String verificationToken = oneTimeTokenService.issueToken(
+                user.getId(), OneTimeTokenType.EMAIL_VERIFICATION, VERIFICATION_TOKEN_VALIDITY);
 
         // Send verification email
-        emailService.sendVerificationEmail(
-                savedUser.getEmail(),
-                savedUser.getEmailVerificationToken(),
-                savedUser.getFirstName()
-        );
+        authMetrics.record(AuthMetrics.PHASE_EMAIL_ENQUEUE, AuthMetrics.OPERATION_VERIFICATION,
+                () -> emailService.sendVerificationEmail(
+                        user.getEmail(),
+                        verificationToken,
+                        user.getFirstName()
+                ));
 
         // Generate tokens
-        String accessToken = jwtService.generateAccessToken(savedUser);
-        String refreshToken = jwtService.generateRefreshToken(savedUser);
+        String accessToken = jwtService.generateAccessToken(user);
+        String refreshToken = jwtService.generateRefreshToken(user);
 
         // Save refresh token
-        refreshTokenService.createRefreshToken(savedUser, refreshToken);
+        refreshTokenService.createRefreshToken(user, refreshToken);
 
-        return buildAuthResponse(savedUser, accessToken, refreshToken);
+        return buildAuthResponse(user, accessToken, refreshToken);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public AuthResponse login(LoginRequest request) {
         log.info("Processing login for email: {}", request.getEmail());
 
-        // Find user by email
-        User user = userRepository.findByEmail(request.getEmail().toLowerCase())
-                .orElseThrow(InvalidCredentialsException::new);
+        EmailAddress email = EmailAddress.of(request.getEmail());
+
+        // Recently missed or definitely unknown emails skip the database
+        Optional<User> userOpt = unknownEmailCache.contains(email) || !knownEmailFilter.mightContain(email)
+                ? Optional.empty()
+                : authMetrics.record(AuthMetrics.PHASE_USER_LOOKUP, AuthMetrics.OPERATION_LOGIN,
+                        () -> userRepository.findByEmail(email));
+
+        if (userOpt.isEmpty()) {
+            unknownEmailCache.put(email);
+            // Burn the same hashing time as a real account so timing does not reveal the miss
+            authMetrics.record(AuthMetrics.PHASE_PASSWORD_MATCH, AuthMetrics.OPERATION_LOGIN,
+                    () -> passwordEncoder.matches(request.getPassword(), dummyPasswordHash));
+            throw new InvalidCredentialsException();
+        }
+        User user = userOpt.get();
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!authMetrics.recordCheck(AuthMetrics.PHASE_PASSWORD_MATCH, AuthMetrics.OPERATION_LOGIN,
+                () -> passwordEncoder.matches(request.getPassword(), user.getPasswordHash()))) {
             log.warn("Invalid password attempt for email: {}", request.getEmail());
             throw new InvalidCredentialsException();
         }
@@ -132,10 +176,11 @@ public class AuthServiceImpl implements AuthService {
 
         // Verify Google ID token
         GoogleUserInfo googleUserInfo = googleOAuthService.verifyIdToken(request.getIdToken());
-        String email = googleUserInfo.getEmail().toLowerCase();
+        EmailAddress email = EmailAddress.of(googleUserInfo.getEmail());
 
         // Check if user exists
-        Optional<User> existingUserOpt = userRepository.findByEmail(email);
+        Optional<User> existingUserOpt = authMetrics.record(AuthMetrics.PHASE_USER_LOOKUP, AuthMetrics.OPERATION_GOOGLE,
+                () -> userRepository.findByEmail(email));
 
         User user;
         if (existingUserOpt.isPresent()) {
@@ -151,6 +196,7 @@ public class AuthServiceImpl implements AuthService {
                     user.setProfilePictureUrl(googleUserInfo.getPictureUrl());
                 }
                 userRepository.save(user);
+                invalidationBus.publish(CacheInvalidationBus.TOPIC_USER, user.getId().toString());
                 log.info("Linked existing local account with Google for user: {}", user.getId());
             } else if (AUTH_PROVIDER_GOOGLE.equals(user.getAuthProvider())) {
                 // Update profile picture if changed
@@ -158,12 +204,13 @@ public class AuthServiceImpl implements AuthService {
                         !googleUserInfo.getPictureUrl().equals(user.getProfilePictureUrl())) {
                     user.setProfilePictureUrl(googleUserInfo.getPictureUrl());
                     userRepository.save(user);
+                    invalidationBus.publish(CacheInvalidationBus.TOPIC_USER, user.getId().toString());
                 }
             }
         } else {
             // Create new user from Google data
             user = User.builder()
-                    .email(email)
+                    .email(email.getValue())
                     .passwordHash(passwordEncoder.encode(generateSecureToken())) // Random secure password
                     .firstName(googleUserInfo.getFirstName())
                     .lastName(googleUserInfo.getLastName())
@@ -174,10 +221,11 @@ public class AuthServiceImpl implements AuthService {
                     .build();
 
             user = userRepository.save(user);
+            invalidationBus.publish(CacheInvalidationBus.TOPIC_EMAIL_REGISTERED, email.getValue());
             log.info("Created new user from Google Sign-In: {}", user.getId());
 
             // Send welcome email
-            emailService.sendWelcomeEmail(user.getEmail(), user.getFirstName());
+            sendWelcomeEmail(user.getEmail(), user.getFirstName());
         }
 
         // Generate tokens
@@ -196,15 +244,20 @@ public class AuthServiceImpl implements AuthService {
     public void forgotPassword(ForgotPasswordRequest request) {
         log.info("Processing forgot password for email: {}", request.getEmail());
 
-        User user = userRepository.findByEmail(request.getEmail().toLowerCase())
-                .orElseThrow(EmailNotFoundException::new);
+        EmailAddress email = EmailAddress.of(request.getEmail());
+
+        // Definitely unknown emails are rejected without a database query
+        if (!knownEmailFilter.mightContain(email)) {
+            throw new EmailNotFoundException();
+        }
 
-        // Generate password reset token
-        String resetToken = generateSecureToken();
-        user.setPasswordResetToken(resetToken);
-        user.setPasswordResetTokenExpiresAt(LocalDateTime.now().plusHours(PASSWORD_RESET_TOKEN_EXPIRY_HOURS));
+        User user = authMetrics.record(AuthMetrics.PHASE_USER_LOOKUP, AuthMetrics.OPERATION_PASSWORD_RESET,
+                        () -> userRepository.findByEmail(email))
+                .orElseThrow(EmailNotFoundException::new);
 
-        userRepository.save(user);
+        // Issue password reset token (the users row is not rewritten)
+        String resetToken = oneTimeTokenService.issueToken(
+                user.getId(), OneTimeTokenType.PASSWORD_RESET, PASSWORD_RESET_TOKEN_VALIDITY);
 
         // Send password reset email synchronously to catch errors
         emailService.sendPasswordResetEmailSync(user.getEmail(), resetToken, user.getFirstName());
@@ -217,23 +270,23 @@ public class AuthServiceImpl implements AuthService {
     public void resetPassword(ResetPasswordRequest request) {
         log.info("Processing password reset with token");
 
-        User user = userRepository.findByPasswordResetTokenAndNotExpired(
-                        request.getToken(),
-                        LocalDateTime.now()
-                )
+        // Consume the token atomically so it cannot be replayed
+        UUID userId = oneTimeTokenService.consumeToken(request.getToken(), OneTimeTokenType.PASSWORD_RESET)
                 .orElseThrow(InvalidTokenException::expiredResetToken);
 
-        // Update password
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
-        user.setPasswordResetToken(null);
-        user.setPasswordResetTokenExpiresAt(null);
+        String passwordHash = authMetrics.record(AuthMetrics.PHASE_PASSWORD_HASH, AuthMetrics.OPERATION_PASSWORD_RESET,
+                () -> passwordEncoder.encode(request.getNewPassword()));
 
-        userRepository.save(user);
+        // Update only the password hash; the account may have been deleted since the token was issued
+        if (userRepository.updatePasswordHash(userId, passwordHash) == 0) {
+            throw InvalidTokenException.expiredResetToken();
+        }
 
-        // Revoke all existing refresh tokens for security
-        refreshTokenService.revokeAllUserTokens(user);
+        // Revoke all existing refresh and access tokens for security
+        refreshTokenService.revokeAllUserTokens(userId);
+        tokenRevocationService.revokeAllAccessTokens(userId);
 
-        log.info("Password reset successfully for user: {}", user.getId());
+        log.info("Password reset successfully for user: {}", userId);
     }
 
     @Override
@@ -241,23 +294,20 @@ public class AuthServiceImpl implements AuthService {
     public void verifyEmail(VerifyEmailRequest request) {
         log.info("Processing email verification with token");
 
-        User user = userRepository.findByEmailVerificationTokenAndNotExpired(
-                        request.getToken(),
-                        LocalDateTime.now()
-                )
+        // Consume the token atomically so it cannot be replayed
+        UUID userId = oneTimeTokenService.consumeToken(request.getToken(), OneTimeTokenType.EMAIL_VERIFICATION)
                 .orElseThrow(InvalidTokenException::expiredVerificationToken);
 
-        // Update email verified status
-        user.setEmailVerified(true);
-        user.setEmailVerificationToken(null);
-        user.setEmailVerificationTokenExpiresAt(null);
-
-        userRepository.save(user);
+        // Only the welcome email's fields are read; the flag is set with a targeted update
+        UserContact contact = userRepository.findContactById(userId)
+                .orElseThrow(InvalidTokenException::expiredVerificationToken);
+        userRepository.updateEmailVerified(userId, true);
+        invalidationBus.publish(CacheInvalidationBus.TOPIC_USER, userId.toString());
 
         // Send welcome email
-        emailService.sendWelcomeEmail(user.getEmail(), user.getFirstName());
+        sendWelcomeEmail(contact.email(), contact.firstName());
 
-        log.info("Email verified successfully for user: {}", user.getId());
+        log.info("Email verified successfully for user: {}", userId);
     }
 
     @Override
@@ -265,7 +315,15 @@ public class AuthServiceImpl implements AuthService {
     public void resendVerification(ResendVerificationRequest request) {
         log.info("Processing resend verification for email: {}", request.getEmail());
 
-        User user = userRepository.findByEmail(request.getEmail().toLowerCase())
+        EmailAddress email = EmailAddress.of(request.getEmail());
+
+        // Definitely unknown emails are rejected without a database query
+        if (!knownEmailFilter.mightContain(email)) {
+            throw new EmailNotFoundException();
+        }
+
+        User user = authMetrics.record(AuthMetrics.PHASE_USER_LOOKUP, AuthMetrics.OPERATION_RESEND_VERIFICATION,
+                        () -> userRepository.findByEmail(email))
                 .orElseThrow(EmailNotFoundException::new);
 
         if (user.getEmailVerified()) {
@@ -273,15 +331,13 @@ public class AuthServiceImpl implements AuthService {
             return; // Silently return to prevent email enumeration
         }
 
-        // Generate new verification token
-        String verificationToken = generateSecureToken();
-        user.setEmailVerificationToken(verificationToken);
-        user.setEmailVerificationTokenExpiresAt(LocalDateTime.now().plusHours(VERIFICATION_TOKEN_EXPIRY_HOURS));
-
-        userRepository.save(user);
+        // Issue new verification token (replaces any outstanding one)
+        String verificationToken = oneTimeTokenService.issueToken(
+                user.getId(), OneTimeTokenType.EMAIL_VERIFICATION, VERIFICATION_TOKEN_VALIDITY);
 
         // Send verification email
-        emailService.sendVerificationEmail(user.getEmail(), verificationToken, user.getFirstName());
+        authMetrics.record(AuthMetrics.PHASE_EMAIL_ENQUEUE, AuthMetrics.OPERATION_VERIFICATION,
+                () -> emailService.sendVerificationEmail(user.getEmail(), verificationToken, user.getFirstName()));
 
         log.info("Verification email resent to: {}", request.getEmail());
     }
@@ -291,9 +347,12 @@ public class AuthServiceImpl implements AuthService {
     public TokenResponse refreshToken(RefreshTokenRequest request) {
         log.info("Processing token refresh");
 
-        // Validate the refresh token format
-        if (!jwtService.validateToken(request.getRefreshToken()) ||
-                !jwtService.isRefreshToken(request.getRefreshToken())) {
+        // Parse once; signature, expiry and type are all checked on the same claims
+        boolean isRefreshToken = jwtService.parseClaims(request.getRefreshToken())
+                .filter(claims -> JwtService.REFRESH_TOKEN_TYPE.equals(
+                        claims.get(JwtService.TOKEN_TYPE_CLAIM, String.class)))
+                .isPresent();
+        if (!isRefreshToken) {
             throw InvalidTokenException.invalidRefreshToken();
         }
 
@@ -329,9 +388,19 @@ public class AuthServiceImpl implements AuthService {
         // Revoke the refresh token
         refreshTokenService.revokeToken(request.getRefreshToken());
 
+        // Revoke the access token too, so it stops working before it expires
+        if (request.getAccessToken() != null) {
+            tokenRevocationService.revokeAccessToken(request.getAccessToken());
+        }
+
         log.info("User logged out successfully");
     }
 
+    private void sendWelcomeEmail(String email, String firstName) {
+        authMetrics.record(AuthMetrics.PHASE_EMAIL_ENQUEUE, AuthMetrics.OPERATION_WELCOME,
+                () -> emailService.sendWelcomeEmail(email, firstName));
+    }
+
     private AuthResponse buildAuthResponse(User user, String accessToken, String refreshToken) {
         UserAddress primaryAddress = user.getPrimaryAddress();
         AddressResponse addressResponse = primaryAddress != null
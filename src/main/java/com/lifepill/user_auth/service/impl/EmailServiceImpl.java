@@ -1,7 +1,9 @@
 package com.lifepill.user_auth.service.impl;
 
 import com.lifepill.user_auth.exception.EmailSendException;
+import com.lifepill.user_auth.metrics.AuthMetrics;
 import com.lifepill.user_auth.service.EmailService;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -32,6 +34,7 @@ import java.util.Map;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender mailSender;
+    private final AuthMetrics authMetrics;
 
     // Mail Configuration
     @Value("${spring.mail.username}")
@@ -119,7 +122,7 @@ public class EmailServiceImpl implements EmailService {
             );
 
             String htmlContent = processTemplate(verificationEmailTemplate, variables);
-            sendHtmlEmail(email, subject, htmlContent);
+            sendHtmlEmail(AuthMetrics.OPERATION_VERIFICATION, email, subject, htmlContent);
             log.info("Verification email sent to: {}", email);
         } catch (Exception e) {
             log.error("Failed to send verification email to: {}", email, e);
@@ -167,7 +170,7 @@ public class EmailServiceImpl implements EmailService {
         );
 
         String htmlContent = processTemplate(passwordResetEmailTemplate, variables);
-        sendHtmlEmail(email, subject, htmlContent);
+        sendHtmlEmail(AuthMetrics.OPERATION_PASSWORD_RESET, email, subject, htmlContent);
         log.info("Password reset email sent to: {}", email);
     }
 
@@ -187,7 +190,7 @@ public class EmailServiceImpl implements EmailService {
             );
 
             String htmlContent = processTemplate(welcomeEmailTemplate, variables);
-            sendHtmlEmail(email, subject, htmlContent);
+            sendHtmlEmail(AuthMetrics.OPERATION_WELCOME, email, subject, htmlContent);
             log.info("Welcome email sent to: {}", email);
         } catch (Exception e) {
             log.error("Failed to send welcome email to: {}", email, e);
@@ -212,7 +215,7 @@ public class EmailServiceImpl implements EmailService {
             );
 
             String htmlContent = processTemplate(verificationEmailTemplate, variables);
-            sendHtmlEmail(email, subject, htmlContent);
+            sendHtmlEmail(AuthMetrics.OPERATION_TEST, email, subject, htmlContent);
             log.info("Test email sent successfully to: {}", email);
         } catch (MailException | MessagingException e) {
             log.error("Email configuration test failed: {}", e.getMessage(), e);
@@ -221,17 +224,26 @@ public class EmailServiceImpl implements EmailService {
     }
 
     /**
-     * Send HTML email using MimeMessage.
+     * Send HTML email using MimeMessage, timed as the email send phase of the given operation.
      */
-    private void sendHtmlEmail(String to, String subject, String htmlContent) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    private void sendHtmlEmail(String operation, String to, String subject, String htmlContent)
+            throws MessagingException {
+        Timer.Sample sample = authMetrics.start();
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
-        helper.setFrom(fromEmail);
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(htmlContent, true); // true = isHtml
+            helper.setFrom(fromEmail);
+            helper.setTo(to);
+            helper.setSubject(subject);
+            helper.setText(htmlContent, true); // true = isHtml
 
-        mailSender.send(message);
+            mailSender.send(message);
+        } catch (MailException | MessagingException e) {
+            authMetrics.recordFailure(AuthMetrics.PHASE_EMAIL_SEND, operation);
+            throw e;
+        } finally {
+            authMetrics.stop(sample, AuthMetrics.PHASE_EMAIL_SEND, operation);
+        }
     }
 }
@@ -1,18 +1,20 @@
 package com.lifepill.user_auth.service.impl;
 
 import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import com.lifepill.user_auth.security.JwtKeyProvider;
 import com.lifepill.user_auth.service.JwtService;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -21,16 +23,11 @@ import java.util.UUID;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class JwtServiceImpl implements JwtService {
 
-    private static final String TOKEN_TYPE_CLAIM = "type";
-    private static final String EMAIL_CLAIM = "email";
-    private static final String EMAIL_VERIFIED_CLAIM = "emailVerified";
-    private static final String ACCESS_TOKEN_TYPE = "access";
-    private static final String REFRESH_TOKEN_TYPE = "refresh";
-
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final JwtKeyProvider jwtKeyProvider;
+    private final AuthMetrics authMetrics;
 
     @Value("${jwt.access-token.expiration}")
     private long accessTokenExpiration;
@@ -38,14 +35,18 @@ public class JwtServiceImpl implements JwtService {
     @Value("${jwt.refresh-token.expiration}")
     private long refreshTokenExpiration;
 
+    private JwtParser jwtParser;
+
     @Override
     public String generateAccessToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
         claims.put(EMAIL_CLAIM, user.getEmail());
         claims.put(EMAIL_VERIFIED_CLAIM, user.getEmailVerified());
+        claims.put("jti", UUID.randomUUID().toString());
 
-        return buildToken(claims, user.getId().toString(), accessTokenExpiration);
+        return authMetrics.record(AuthMetrics.PHASE_TOKEN_SIGN, AuthMetrics.OPERATION_ACCESS,
+                () -> buildToken(claims, user.getId().toString(), accessTokenExpiration));
     }
 
     @Override
@@ -54,7 +55,8 @@ public class JwtServiceImpl implements JwtService {
         claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
         claims.put("jti", UUID.randomUUID().toString());
 
-        return buildToken(claims, user.getId().toString(), refreshTokenExpiration);
+        return authMetrics.record(AuthMetrics.PHASE_TOKEN_SIGN, AuthMetrics.OPERATION_REFRESH,
+                () -> buildToken(claims, user.getId().toString(), refreshTokenExpiration));
     }
 
     @Override
@@ -72,10 +74,7 @@ public class JwtServiceImpl implements JwtService {
     @Override
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            extractAllClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             log.warn("JWT token is expired: {}", e.getMessage());
@@ -91,6 +90,16 @@ public class JwtServiceImpl implements JwtService {
         return false;
     }
 
+    @Override
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT token rejected: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     @Override
     public boolean isAccessToken(String token) {
         try {
@@ -111,6 +120,11 @@ public class JwtServiceImpl implements JwtService {
         }
     }
 
+    @Override
+    public long getAccessTokenExpirationMs() {
+        return accessTokenExpiration;
+    }
+
     @Override
     public long getRefreshTokenExpirationMs() {
         return refreshTokenExpiration;
@@ -121,24 +135,33 @@ public class JwtServiceImpl implements JwtService {
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
+                .header().keyId(jwtKeyProvider.getSigningKid()).and()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(jwtKeyProvider.getSigningKey())
                 .compact();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        try {
+            return authMetrics.record(AuthMetrics.PHASE_TOKEN_VERIFY, AuthMetrics.OPERATION_JWT,
+                    () -> jwtParser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            authMetrics.recordFailure(AuthMetrics.PHASE_TOKEN_VERIFY, AuthMetrics.OPERATION_JWT);
+            throw e;
+        }
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Build the (thread-safe) parser once instead of per token.
+     * Verification keys are resolved per token from its kid header.
+     */
+    @PostConstruct
+    void init() {
+        jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyProvider)
+                .build();
     }
 }
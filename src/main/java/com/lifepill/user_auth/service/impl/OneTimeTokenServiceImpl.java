@@ -0,0 +1,70 @@
+package com.lifepill.user_auth.service.impl;
+
+import com.lifepill.user_auth.entity.OneTimeToken;
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+import com.lifepill.user_auth.repository.OneTimeTokenRepository;
+import com.lifepill.user_auth.service.OneTimeTokenService;
+import com.lifepill.user_auth.util.TokenHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of OneTimeTokenService.
+ * Only token digests are stored; consumption is a single atomic delete.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OneTimeTokenServiceImpl implements OneTimeTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final OneTimeTokenRepository oneTimeTokenRepository;
+
+    @Override
+    @Transactional
+    public String issueToken(UUID userId, OneTimeTokenType tokenType, Duration validity) {
+        String tokenValue = generateTokenValue();
+
+        oneTimeTokenRepository.deleteByUserIdAndTokenType(userId, tokenType);
+        oneTimeTokenRepository.save(OneTimeToken.builder()
+                .userId(userId)
+                .tokenType(tokenType)
+                .tokenHash(TokenHasher.sha256(tokenValue))
+                .expiresAt(LocalDateTime.now().plus(validity))
+                .build());
+
+        return tokenValue;
+    }
+
+    @Override
+    @Transactional
+    public Optional<UUID> consumeToken(String tokenValue, OneTimeTokenType tokenType) {
+        return oneTimeTokenRepository.consume(TokenHasher.sha256(tokenValue), tokenType, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "0 30 * * * *") // Run every hour
+    public void cleanupExpiredTokens() {
+        int deleted = oneTimeTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Cleaned up {} expired one-time tokens", deleted);
+    }
+
+    private String generateTokenValue() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,101 @@
+package com.lifepill.user_auth.service.impl;
+
+import com.lifepill.user_auth.dto.response.TokenResponse;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.exception.InvalidTokenException;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import com.lifepill.user_auth.repository.ReactiveRefreshTokenRepository;
+import com.lifepill.user_auth.repository.RefreshTokenOwner;
+import com.lifepill.user_auth.service.JwtService;
+import com.lifepill.user_auth.service.ReactiveTokenRefreshService;
+import com.lifepill.user_auth.util.TokenHasher;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of ReactiveTokenRefreshService.
+ * Token parsing and signing are cheap enough to run on the event loop; the only I/O is one
+ * lookup, then the revoke and insert in one transaction. The revoke is conditional, so a token
+ * presented twice concurrently is rotated only once.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+public class ReactiveTokenRefreshServiceImpl implements ReactiveTokenRefreshService {
+
+    private final ReactiveRefreshTokenRepository reactiveRefreshTokenRepository;
+    private final JwtService jwtService;
+    private final AuthMetrics authMetrics;
+    private final TransactionalOperator transactionalOperator;
+
+    @Value("${jwt.refresh-token.expiration}")
+    private long refreshTokenExpirationMs;
+
+    public ReactiveTokenRefreshServiceImpl(ReactiveRefreshTokenRepository reactiveRefreshTokenRepository,
+                                           JwtService jwtService,
+                                           AuthMetrics authMetrics,
+                                           DatabaseClient reactiveDatabaseClient) {
+        this.reactiveRefreshTokenRepository = reactiveRefreshTokenRepository;
+        this.jwtService = jwtService;
+        this.authMetrics = authMetrics;
+        // Local rather than a bean, so @Transactional keeps resolving to the JPA transaction manager
+        this.transactionalOperator = TransactionalOperator.create(
+                new R2dbcTransactionManager(reactiveDatabaseClient.getConnectionFactory()));
+    }
+
+    @Override
+    public Mono<TokenResponse> refreshToken(String refreshToken) {
+        boolean isRefreshToken = jwtService.parseClaims(refreshToken)
+                .filter(claims -> JwtService.REFRESH_TOKEN_TYPE.equals(
+                        claims.get(JwtService.TOKEN_TYPE_CLAIM, String.class)))
+                .isPresent();
+        if (!isRefreshToken) {
+            return Mono.error(InvalidTokenException.invalidRefreshToken());
+        }
+
+        return timed(AuthMetrics.OPERATION_FIND, reactiveRefreshTokenRepository
+                        .findValidWithOwner(TokenHasher.sha256(refreshToken), LocalDateTime.now()))
+                .switchIfEmpty(Mono.error(InvalidTokenException::invalidRefreshToken))
+                .flatMap(this::rotate);
+    }
+
+    private Mono<TokenResponse> rotate(RefreshTokenOwner owner) {
+        User user = User.builder()
+                .id(owner.userId())
+                .email(owner.email())
+                .emailVerified(owner.emailVerified())
+                .build();
+        TokenResponse response = TokenResponse.builder()
+                .accessToken(jwtService.generateAccessToken(user))
+                .refreshToken(jwtService.generateRefreshToken(user))
+                .build();
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(refreshTokenExpirationMs / 1000);
+
+        Mono<Void> revokeAndStore = timed(AuthMetrics.OPERATION_REVOKE,
+                reactiveRefreshTokenRepository.revokeIfValid(owner.tokenId()))
+                .flatMap(revoked -> revoked
+                        ? timed(AuthMetrics.OPERATION_CREATE, reactiveRefreshTokenRepository
+                                .insert(owner.userId(), TokenHasher.sha256(response.getRefreshToken()), expiresAt))
+                        : Mono.error(InvalidTokenException.invalidRefreshToken()));
+
+        return transactionalOperator.transactional(revokeAndStore)
+                .doOnSuccess(ignored -> log.info("Token refreshed successfully for user: {}", owner.userId()))
+                .thenReturn(response);
+    }
+
+    private <T> Mono<T> timed(String operation, Mono<T> query) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = authMetrics.start();
+            return query.doFinally(signal -> authMetrics.stop(sample, AuthMetrics.PHASE_REFRESH_TOKEN_STORE, operation));
+        });
+    }
+}
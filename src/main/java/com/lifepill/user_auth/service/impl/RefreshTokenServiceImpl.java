@@ -2,8 +2,10 @@ package com.lifepill.user_auth.service.impl;
 
 import com.lifepill.user_auth.entity.RefreshToken;
 import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.metrics.AuthMetrics;
 import com.lifepill.user_auth.repository.RefreshTokenRepository;
 import com.lifepill.user_auth.service.RefreshTokenService;
+import com.lifepill.user_auth.util.TokenHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,12 +13,9 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Implementation of RefreshTokenService for refresh token management.
@@ -28,6 +27,7 @@ import java.util.Optional;
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthMetrics authMetrics;
 
     @Value("${jwt.refresh-token.expiration}")
     private long refreshTokenExpirationMs;
@@ -49,29 +49,34 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
                 .revoked(false)
                 .build();
 
-        return refreshTokenRepository.save(refreshToken);
+        // Flushed here so the timer covers the INSERT rather than just queuing it for commit
+        return authMetrics.record(AuthMetrics.PHASE_REFRESH_TOKEN_STORE, AuthMetrics.OPERATION_CREATE,
+                () -> refreshTokenRepository.saveAndFlush(refreshToken));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<RefreshToken> findValidToken(String tokenValue) {
         String tokenHash = hashToken(tokenValue);
-        return refreshTokenRepository.findValidByTokenHash(tokenHash, LocalDateTime.now());
+        return authMetrics.record(AuthMetrics.PHASE_REFRESH_TOKEN_STORE, AuthMetrics.OPERATION_FIND,
+                () -> refreshTokenRepository.findValidByTokenHash(tokenHash, LocalDateTime.now()));
     }
 
     @Override
     @Transactional
     public void revokeToken(String tokenValue) {
         String tokenHash = hashToken(tokenValue);
-        refreshTokenRepository.revokeByTokenHash(tokenHash);
+        authMetrics.record(AuthMetrics.PHASE_REFRESH_TOKEN_STORE, AuthMetrics.OPERATION_REVOKE,
+                () -> refreshTokenRepository.revokeByTokenHash(tokenHash));
         log.info("Refresh token revoked");
     }
 
     @Override
     @Transactional
-    public void revokeAllUserTokens(User user) {
-        refreshTokenRepository.revokeAllByUserId(user.getId());
-        log.info("All refresh tokens revoked for user: {}", user.getId());
+    public void revokeAllUserTokens(UUID userId) {
+        authMetrics.record(AuthMetrics.PHASE_REFRESH_TOKEN_STORE, AuthMetrics.OPERATION_REVOKE_ALL,
+                () -> refreshTokenRepository.revokeAllByUserId(userId));
+        log.info("All refresh tokens revoked for user: {}", userId);
     }
 
     @Override
@@ -90,12 +95,6 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
      * @return the SHA-256 hash encoded as Base64
      */
     private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
+        return TokenHasher.sha256(token);
     }
 }
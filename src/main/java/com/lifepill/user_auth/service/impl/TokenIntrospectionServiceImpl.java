@@ -0,0 +1,79 @@
+package com.lifepill.user_auth.service.impl;
+
+import com.lifepill.user_auth.cache.IntrospectionCache;
+import com.lifepill.user_auth.dto.response.IntrospectionResponse;
+import com.lifepill.user_auth.service.JwtService;
+import com.lifepill.user_auth.service.TokenIntrospectionService;
+import com.lifepill.user_auth.service.TokenRevocationService;
+import com.lifepill.user_auth.util.TokenHasher;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of TokenIntrospectionService.
+ * Only signed, unexpired, unrevoked access tokens are reported as active. Active results are
+ * memoized by token hash until expiry; revocation is checked on every call, cached or not.
+ * Inactive results are not cached.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+    private final JwtService jwtService;
+    private final IntrospectionCache introspectionCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public IntrospectionResponse introspect(String token) {
+        if (token == null || token.isBlank()) {
+            return IntrospectionResponse.inactive();
+        }
+
+        String tokenHash = TokenHasher.sha256(token);
+        IntrospectionResponse cached = introspectionCache.get(tokenHash);
+        if (cached != null) {
+            return isRevoked(cached) ? IntrospectionResponse.inactive() : cached;
+        }
+
+        IntrospectionResponse response = jwtService.parseClaims(token)
+                .filter(claims -> JwtService.ACCESS_TOKEN_TYPE.equals(
+                        claims.get(JwtService.TOKEN_TYPE_CLAIM, String.class)))
+                .map(this::toActiveResponse)
+                .orElseGet(IntrospectionResponse::inactive);
+
+        if (response.isActive()) {
+            introspectionCache.put(tokenHash, response);
+        }
+        return response.isActive() && isRevoked(response) ? IntrospectionResponse.inactive() : response;
+    }
+
+    @Override
+    public List<IntrospectionResponse> introspect(List<String> tokens) {
+        return tokens.stream()
+                .map(this::introspect)
+                .toList();
+    }
+
+    private boolean isRevoked(IntrospectionResponse response) {
+        return tokenRevocationService.isRevoked(response.getJti(), UUID.fromString(response.getSub()), response.getIat());
+    }
+
+    private IntrospectionResponse toActiveResponse(Claims claims) {
+        return IntrospectionResponse.builder()
+                .active(true)
+                .sub(claims.getSubject())
+                .email(claims.get(JwtService.EMAIL_CLAIM, String.class))
+                .emailVerified(claims.get(JwtService.EMAIL_VERIFIED_CLAIM, Boolean.class))
+                .tokenType(JwtService.ACCESS_TOKEN_TYPE)
+                .jti(claims.getId())
+                .iat(claims.getIssuedAt().toInstant().getEpochSecond())
+                .exp(claims.getExpiration().toInstant().getEpochSecond())
+                .build();
+    }
+}
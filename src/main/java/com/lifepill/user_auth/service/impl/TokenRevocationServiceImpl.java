@@ -0,0 +1,136 @@
+package com.lifepill.user_auth.service.impl;
+
+import com.lifepill.user_auth.cache.CacheInvalidationBus;
+import com.lifepill.user_auth.cache.CacheInvalidationListener;
+import com.lifepill.user_auth.entity.AccessTokenRevocation;
+import com.lifepill.user_auth.repository.AccessTokenRevocationRepository;
+import com.lifepill.user_auth.security.AccessTokenRevocationList;
+import com.lifepill.user_auth.service.JwtService;
+import com.lifepill.user_auth.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Implementation of TokenRevocationService.
+ * Revocations are persisted (so restarted nodes can reload them) and published on the
+ * invalidation bus, which applies them to the in-memory list of every instance on commit.
+ * Their timestamps are UTC, so instances in different time zones agree on expiry.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService, CacheInvalidationListener {
+
+    private static final String TYPE_TOKEN = "T";
+    private static final String TYPE_USER = "U";
+
+    private final AccessTokenRevocationRepository revocationRepository;
+    private final AccessTokenRevocationList revocationList;
+    private final CacheInvalidationBus invalidationBus;
+    private final JwtService jwtService;
+
+    /**
+     * Load active revocations once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        revocationRepository.findActive(LocalDateTime.now(ZoneOffset.UTC)).forEach(revocationList::add);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAccessToken(String accessToken) {
+        jwtService.parseClaims(accessToken)
+                .filter(claims -> JwtService.ACCESS_TOKEN_TYPE.equals(
+                        claims.get(JwtService.TOKEN_TYPE_CLAIM, String.class)))
+                .filter(claims -> claims.getId() != null)
+                .ifPresent(claims -> {
+                    revoke(AccessTokenRevocation.builder()
+                            .jti(claims.getId())
+                            .expiresAt(LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneOffset.UTC))
+                            .build());
+                    log.info("Revoked access token for user: {}", claims.getSubject());
+                });
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllAccessTokens(UUID userId) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        revoke(AccessTokenRevocation.builder()
+                .userId(userId)
+                .notBefore(now)
+                .expiresAt(now.plusNanos(jwtService.getAccessTokenExpirationMs() * 1_000_000))
+                .build());
+        log.info("Revoked all access tokens for user: {}", userId);
+    }
+
+    @Override
+    public boolean isRevoked(String jti, UUID userId, long issuedAt) {
+        return revocationList.isRevoked(jti, userId, issuedAt);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "0 45 * * * *") // Every hour at minute 45
+    public void cleanupExpiredRevocations() {
+        int deleted = revocationRepository.deleteExpired(LocalDateTime.now(ZoneOffset.UTC));
+        if (deleted > 0) {
+            log.info("Cleaned up {} expired access token revocations", deleted);
+        }
+    }
+
+    @Override
+    public String topic() {
+        return CacheInvalidationBus.TOPIC_ACCESS_TOKEN_REVOKED;
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        keys.forEach(key -> revocationList.add(decode(key)));
+    }
+
+    @Override
+    public void invalidateAll() {
+        // Revocations are additive; reloading from the database recovers any missed ones
+        loadRevocations();
+    }
+
+    private void revoke(AccessTokenRevocation revocation) {
+        revocationRepository.save(revocation);
+        invalidationBus.publish(CacheInvalidationBus.TOPIC_ACCESS_TOKEN_REVOKED, encode(revocation));
+    }
+
+    private String encode(AccessTokenRevocation revocation) {
+        if (revocation.getJti() != null) {
+            return String.join("|", TYPE_TOKEN, revocation.getJti(), revocation.getExpiresAt().toString());
+        }
+        return String.join("|", TYPE_USER, revocation.getUserId().toString(),
+                revocation.getNotBefore().toString(), revocation.getExpiresAt().toString());
+    }
+
+    private AccessTokenRevocation decode(String key) {
+        String[] parts = key.split("\\|");
+        if (TYPE_TOKEN.equals(parts[0])) {
+            return AccessTokenRevocation.builder()
+                    .jti(parts[1])
+                    .expiresAt(LocalDateTime.parse(parts[2]))
+                    .build();
+        }
+        return AccessTokenRevocation.builder()
+                .userId(UUID.fromString(parts[1]))
+                .notBefore(LocalDateTime.parse(parts[2]))
+                .expiresAt(LocalDateTime.parse(parts[3]))
+                .build();
+    }
+}
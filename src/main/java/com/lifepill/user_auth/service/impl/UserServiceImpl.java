@@ -1,13 +1,17 @@
 package com.lifepill.user_auth.service.impl;
 
+import com.lifepill.user_auth.cache.CacheInvalidationBus;
 import com.lifepill.user_auth.dto.request.UpdateProfileRequest;
 import com.lifepill.user_auth.dto.response.UserProfileResponse;
 import com.lifepill.user_auth.entity.User;
 import com.lifepill.user_auth.entity.UserAddress;
 import com.lifepill.user_auth.exception.UserNotFoundException;
 import com.lifepill.user_auth.mapper.UserMapper;
+import com.lifepill.user_auth.repository.RefreshTokenRepository;
 import com.lifepill.user_auth.repository.UserAddressRepository;
+import com.lifepill.user_auth.repository.UserProfileVersion;
 import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.service.TokenRevocationService;
 import com.lifepill.user_auth.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +19,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.UUID;
 
 /**
@@ -28,7 +34,10 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserAddressRepository userAddressRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
     private final UserMapper userMapper;
+    private final CacheInvalidationBus invalidationBus;
 
     @Override
     @Transactional(readOnly = true)
@@ -41,6 +50,14 @@ public class UserServiceImpl implements UserService {
         return userMapper.toUserProfileResponse(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getProfileETag(UUID userId) {
+        return userRepository.findProfileVersion(userId)
+                .map(UserProfileVersion::toETag)
+                .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+    }
+
     @Override
     @Transactional
     public UserProfileResponse updateProfile(UUID userId, UpdateProfileRequest request) {
@@ -69,6 +86,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User savedUser = userRepository.save(user);
+        invalidationBus.publish(CacheInvalidationBus.TOPIC_USER, userId.toString());
         log.info("Profile updated successfully for user: {}", userId);
 
         return userMapper.toUserProfileResponse(savedUser);
@@ -106,12 +124,16 @@ public class UserServiceImpl implements UserService {
     public void deleteAccount(UUID userId) {
         log.info("Deleting account for user: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+        // Tombstone only, stamped in UTC; rows are hard-deleted later by the account purger
+        if (userRepository.markDeleted(userId, LocalDateTime.now(ZoneOffset.UTC)) == 0) {
+            throw new UserNotFoundException(userId.toString());
+        }
 
-        // Delete the user (cascades to addresses and refresh tokens due to orphanRemoval = true)
-        userRepository.delete(user);
+        // Revoke all sessions so the account cannot be used until it is purged
+        refreshTokenRepository.revokeAllByUserId(userId);
+        tokenRevocationService.revokeAllAccessTokens(userId);
+        invalidationBus.publish(CacheInvalidationBus.TOPIC_USER, userId.toString());
 
-        log.info("Account deleted successfully for user: {}", userId);
+        log.info("Account marked as deleted for user: {}", userId);
     }
 }
@@ -0,0 +1,41 @@
+package com.lifepill.user_auth.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Canonical email address value type.
+ * Trims and lowercases once at the boundary so repositories, the rate limiter and
+ * the lower(email) unique index all agree on a single representation.
+ */
+@Getter
+@EqualsAndHashCode
+public final class EmailAddress {
+
+    private final String value;
+
+    private EmailAddress(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Create a canonical email address from raw input.
+     *
+     * @param email the raw email address
+     * @return the canonical email address
+     * @throws IllegalArgumentException if the email is null
+     */
+    public static EmailAddress of(String email) {
+        if (email == null) {
+            throw new IllegalArgumentException("Email must not be null");
+        }
+        return new EmailAddress(email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,85 @@
+package com.lifepill.user_auth.util;
+
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Masking of personal data (email and IP addresses) before it is logged.
+ */
+public final class LogMasking {
+
+    private static final Pattern EMAIL = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)+");
+    private static final Pattern IPV4 = Pattern.compile("(?<![\\d.])(\\d{1,3}\\.){3}\\d{1,3}(?![\\d.])");
+
+    private LogMasking() {
+    }
+
+    /**
+     * Mask an IP address: keep the network part, hide the host part.
+     *
+     * @param ip the IP address
+     * @return the masked address, e.g. 192.168.1.***
+     */
+    public static String maskIp(String ip) {
+        if (ip == null || ip.isEmpty()) return "unknown";
+        int lastDot = ip.lastIndexOf('.');
+        if (lastDot > 0) {
+            return ip.substring(0, lastDot) + ".***";
+        }
+        return "***";
+    }
+
+    /**
+     * Mask an email address: keep the first two characters and the domain.
+     *
+     * @param email the email address
+     * @return the masked address, e.g. jo***@example.com
+     */
+    public static String maskEmail(String email) {
+        if (email == null || email.isEmpty()) return "unknown";
+        int atIndex = email.indexOf('@');
+        if (atIndex < 0) {
+            return "***";
+        }
+        if (atIndex > 2) {
+            return email.substring(0, 2) + "***" + email.substring(atIndex);
+        }
+        return "***" + email.substring(atIndex);
+    }
+
+    /**
+     * Mask every email and IPv4 address in a free-text message.
+     *
+     * @param message the message, may be null
+     * @return the message with the addresses masked
+     */
+    public static String mask(String message) {
+        if (message == null || message.isEmpty()) {
+            return message;
+        }
+        String masked = message.indexOf('@') >= 0 ? replace(EMAIL, message, LogMasking::maskEmail) : message;
+        return hasDigitDot(masked) ? replace(IPV4, masked, LogMasking::maskIp) : masked;
+    }
+
+    private static String replace(Pattern pattern, String message, Function<String, String> masker) {
+        Matcher matcher = pattern.matcher(message);
+        if (!matcher.find()) {
+            return message;
+        }
+        StringBuilder result = new StringBuilder(message.length());
+        do {
+            matcher.appendReplacement(result, Matcher.quoteReplacement(masker.apply(matcher.group())));
+        } while (matcher.find());
+        return matcher.appendTail(result).toString();
+    }
+
+    private static boolean hasDigitDot(String message) {
+        for (int i = 1; i < message.length(); i++) {
+            if (message.charAt(i) == '.' && Character.isDigit(message.charAt(i - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
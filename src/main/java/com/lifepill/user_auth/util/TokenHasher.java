@@ -0,0 +1,37 @@
+package com.lifepill.user_auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * SHA-256 hashing for opaque tokens persisted in the database.
+ * Only the fixed-size digest (44 Base64 characters) is stored; raw tokens are never persisted.
+ */
+public final class TokenHasher {
+
+    /**
+     * Length of a Base64-encoded SHA-256 digest; sizes the one_time_tokens.token_hash column.
+     */
+    public static final int DIGEST_LENGTH = 44;
+
+    private TokenHasher() {
+    }
+
+    /**
+     * Hash a token using SHA-256.
+     *
+     * @param token the raw token
+     * @return the SHA-256 hash encoded as Base64
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- V4__Add_User_Soft_Delete.sql
+-- Tombstone column for soft-deleted accounts; rows are hard-deleted later by the background purger
+
+ALTER TABLE users ADD COLUMN deleted_at TIMESTAMP;
+
+-- Email uniqueness only applies to live accounts so a deleted email can register again before purge
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+CREATE UNIQUE INDEX uk_users_email_active ON users(email) WHERE deleted_at IS NULL;
+
+-- Provider lookups never target tombstoned rows
+DROP INDEX IF EXISTS idx_users_provider_id;
+CREATE INDEX idx_users_provider_id ON users(provider_id) WHERE deleted_at IS NULL;
+
+-- Small index used only by the purger to find tombstoned rows
+CREATE INDEX idx_users_deleted_at ON users(deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,11 @@
+-- V5__Case_Insensitive_Email_Index.sql
+-- Enforce email uniqueness on the canonical lower(email) form and drop the redundant plain index
+
+-- Canonicalize any rows written before the application lowercased emails consistently
+UPDATE users SET email = lower(trim(email)) WHERE email <> lower(trim(email));
+
+DROP INDEX IF EXISTS uk_users_email_active;
+DROP INDEX IF EXISTS idx_users_email;
+
+-- Serves both uniqueness and lookups (queries compare lower(email) and exclude tombstones)
+CREATE UNIQUE INDEX uk_users_email_lower_active ON users(lower(email)) WHERE deleted_at IS NULL;
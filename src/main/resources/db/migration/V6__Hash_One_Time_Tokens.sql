@@ -0,0 +1,22 @@
+-- V6__Hash_One_Time_Tokens.sql
+-- Store SHA-256 digests (Base64, 44 chars) of verification and reset tokens instead of plain text,
+-- and index only the rows that actually carry a token
+
+UPDATE users
+SET email_verification_token = encode(sha256(convert_to(email_verification_token, 'UTF8')), 'base64')
+WHERE email_verification_token IS NOT NULL;
+
+UPDATE users
+SET password_reset_token = encode(sha256(convert_to(password_reset_token, 'UTF8')), 'base64')
+WHERE password_reset_token IS NOT NULL;
+
+ALTER TABLE users ALTER COLUMN email_verification_token TYPE VARCHAR(44);
+ALTER TABLE users ALTER COLUMN password_reset_token TYPE VARCHAR(44);
+
+DROP INDEX IF EXISTS idx_users_email_verification_token;
+DROP INDEX IF EXISTS idx_users_password_reset_token;
+
+CREATE INDEX idx_users_email_verification_token ON users(email_verification_token)
+    WHERE email_verification_token IS NOT NULL;
+CREATE INDEX idx_users_password_reset_token ON users(password_reset_token)
+    WHERE password_reset_token IS NOT NULL;
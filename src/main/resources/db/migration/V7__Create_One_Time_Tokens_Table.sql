@@ -0,0 +1,37 @@
+-- V7__Create_One_Time_Tokens_Table.sql
+-- Move email verification and password reset tokens off the users row into a narrow expiring table,
+-- so issuing or consuming a token no longer rewrites the wide users tuple
+
+CREATE TABLE one_time_tokens (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    token_type VARCHAR(32) NOT NULL,
+    token_hash VARCHAR(44) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_one_time_token_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX uk_one_time_tokens_token_hash ON one_time_tokens(token_hash);
+CREATE INDEX idx_one_time_tokens_user_type ON one_time_tokens(user_id, token_type);
+CREATE INDEX idx_one_time_tokens_expires_at ON one_time_tokens(expires_at);
+
+-- Carry over outstanding (already hashed) tokens
+INSERT INTO one_time_tokens (user_id, token_type, token_hash, expires_at)
+SELECT id, 'EMAIL_VERIFICATION', email_verification_token, email_verification_token_expires_at
+FROM users
+WHERE email_verification_token IS NOT NULL
+  AND email_verification_token_expires_at > CURRENT_TIMESTAMP;
+
+INSERT INTO one_time_tokens (user_id, token_type, token_hash, expires_at)
+SELECT id, 'PASSWORD_RESET', password_reset_token, password_reset_token_expires_at
+FROM users
+WHERE password_reset_token IS NOT NULL
+  AND password_reset_token_expires_at > CURRENT_TIMESTAMP;
+
+-- Dropping the columns also drops their partial indexes
+ALTER TABLE users
+DROP COLUMN email_verification_token,
+DROP COLUMN email_verification_token_expires_at,
+DROP COLUMN password_reset_token,
+DROP COLUMN password_reset_token_expires_at;
@@ -0,0 +1,15 @@
+-- V8__Create_Access_Token_Revocations_Table.sql
+-- Durable record of revoked access tokens (by jti) and per-user "not before" cutoffs.
+-- Nodes load unexpired rows into memory at startup; rows are useless once the tokens they cover expire.
+
+CREATE TABLE access_token_revocations (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    jti VARCHAR(36),
+    user_id UUID,
+    not_before TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_access_token_revocation_target CHECK ((jti IS NULL) <> (user_id IS NULL))
+);
+
+CREATE INDEX idx_access_token_revocations_expires_at ON access_token_revocations(expires_at);
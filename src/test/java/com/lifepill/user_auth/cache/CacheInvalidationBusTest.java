@@ -0,0 +1,105 @@
+package com.lifepill.user_auth.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CacheInvalidationBus in local-only mode.
+ */
+class CacheInvalidationBusTest {
+
+    private final List<Collection<String>> received = new ArrayList<>();
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("userCache", new RecordingListener());
+
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:bus");
+
+        bus = new CacheInvalidationBus(new JdbcTemplate(), dataSourceProperties,
+                beanFactory.getBeanProvider(CacheInvalidationListener.class),
+                new ObjectMapper(), new SimpleMeterRegistry());
+        bus.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply events immediately outside a transaction")
+    void shouldDispatchImmediately() {
+        bus.publish(CacheInvalidationBus.TOPIC_USER, "a");
+        bus.publish(CacheInvalidationBus.TOPIC_EMAIL_REGISTERED, "b");
+
+        assertEquals(List.of(List.of("a")), received.stream().map(List::copyOf).toList());
+    }
+
+    @Test
+    @DisplayName("Should coalesce events until commit and drop them on rollback")
+    void shouldCoalesceUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish(CacheInvalidationBus.TOPIC_USER, "a");
+        bus.publish(CacheInvalidationBus.TOPIC_USER, "b");
+        bus.publish(CacheInvalidationBus.TOPIC_USER, "a");
+        assertTrue(received.isEmpty());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(List.of(List.of("a", "b")), received.stream().map(List::copyOf).toList());
+
+        received.clear();
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish(CacheInvalidationBus.TOPIC_USER, "c");
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertTrue(received.isEmpty());
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(s -> s.beforeCommit(false));
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    private class RecordingListener implements CacheInvalidationListener {
+
+        @Override
+        public String topic() {
+            return CacheInvalidationBus.TOPIC_USER;
+        }
+
+        @Override
+        public void invalidate(Collection<String> keys) {
+            received.add(keys);
+        }
+
+        @Override
+        public void invalidateAll() {
+            received.clear();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.lifepill.user_auth.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for UserAuthRuntimeHints.
+ */
+class UserAuthRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    UserAuthRuntimeHintsTest() {
+        new UserAuthRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should only register types that exist, so library upgrades that rename them are noticed")
+    void shouldRegisterExistingTypes() {
+        hints.reflection().typeHints().forEach(hint ->
+                assertDoesNotThrow(() -> Class.forName(hint.getType().getName()), hint.getType().getName()));
+    }
+
+    @Test
+    @DisplayName("Should register the jjwt implementations and their service files")
+    void shouldRegisterJjwt() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Deserializer").test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the Google id token payload and the email templates")
+    void shouldRegisterGoogleIdTokenAndTemplates() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.google.api.client.googleapis.auth.oauth2.GoogleIdToken$Payload"))
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("templates/email/verification-email.html").test(hints));
+    }
+}
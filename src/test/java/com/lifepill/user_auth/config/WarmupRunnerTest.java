@@ -0,0 +1,35 @@
+package com.lifepill.user_auth.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for WarmupRunner.
+ */
+@SpringBootTest(properties = {"startup.warmup.enabled=true", "startup.warmup.cycles=200", "startup.warmup.window=20"})
+@ActiveProfiles("test")
+class WarmupRunnerTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should report the warm-up as startup metrics and leave no synthetic auth metrics behind")
+    void shouldReportWarmup() {
+        assertEquals(200, meterRegistry.get("application.warmup.cycles").gauge().value());
+        assertTrue(meterRegistry.get("application.warmup.time").timeGauge().value(TimeUnit.MILLISECONDS) > 0);
+        assertTrue(meterRegistry.get("application.warmup.cycle.p99").tag("window", "first")
+                .timeGauge().value(TimeUnit.MILLISECONDS) > 0);
+        assertTrue(meterRegistry.get("application.warmup.cycle.p99").tag("window", "last")
+                .timeGauge().value(TimeUnit.MILLISECONDS) > 0);
+        assertTrue(meterRegistry.find("auth.phase").meters().isEmpty());
+    }
+}
@@ -0,0 +1,85 @@
+package com.lifepill.user_auth.controller;
+
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests for conditional GETs of the user profile.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerProfileETagTest {
+
+    private static final String PROFILE_PATH = "/v1/user/profile";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private User user;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("etag@example.com")
+                .passwordHash("hash")
+                .firstName("Etag")
+                .lastName("User")
+                .emailVerified(true)
+                .build());
+        authorization = "Bearer " + jwtService.generateAccessToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 until the profile changes")
+    void shouldRevalidateWithETag() throws Exception {
+        String etag = mockMvc.perform(get(PROFILE_PATH).header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.firstName").value("Etag"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get(PROFILE_PATH).header("Authorization", authorization).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        mockMvc.perform(put(PROFILE_PATH).header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Changed\"}"))
+                .andExpect(status().isOk());
+
+        String newEtag = mockMvc.perform(get(PROFILE_PATH).header("Authorization", authorization).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.firstName").value("Changed"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, newEtag);
+    }
+}
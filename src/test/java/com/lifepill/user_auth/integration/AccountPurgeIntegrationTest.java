@@ -0,0 +1,192 @@
+package com.lifepill.user_auth.integration;
+
+import com.lifepill.user_auth.dto.request.LoginRequest;
+import com.lifepill.user_auth.dto.request.RegisterRequest;
+import com.lifepill.user_auth.dto.response.AuthResponse;
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.exception.InvalidCredentialsException;
+import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.service.AccountPurgeService;
+import com.lifepill.user_auth.service.AuthService;
+import com.lifepill.user_auth.service.EmailService;
+import com.lifepill.user_auth.service.OneTimeTokenService;
+import com.lifepill.user_auth.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the account purger against the test database.
+ * <p>
+ * The batch sizes are shrunk so a few thousand refresh tokens span more than one run, and the
+ * grace period is an hour so tombstones stamped "now" by other tests are never picked up here.
+ * <p>
+ * PostgreSQL lets a deleted email register again before the purge (the unique email index only
+ * covers live rows), while H2 keeps a plain unique constraint, so re-registration is checked
+ * after the purge.
+ */
+@SpringBootTest(properties = {
+        "account.purge.cron=-",
+        "account.purge.grace-period-minutes=60",
+        "account.purge.token-batch-size=1000",
+        "account.purge.max-batches-per-run=3",
+        "account.purge.pause-ms=0"
+})
+@ActiveProfiles("test")
+class AccountPurgeIntegrationTest {
+
+    private static final int TOKEN_COUNT = 5000;
+    private static final String PASSWORD = "Password123!";
+
+    @Autowired
+    private AccountPurgeService accountPurgeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OneTimeTokenService oneTimeTokenService;
+
+    @MockBean
+    private EmailService emailService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should purge a large token history across runs within the batch budget")
+    void shouldPurgeLargeTokenHistoryAcrossRuns() {
+        User user = saveUser("purge-history@example.com");
+        insertRefreshTokens(user.getId(), TOKEN_COUNT);
+        insertAddress(user.getId());
+        oneTimeTokenService.issueToken(user.getId(), OneTimeTokenType.PASSWORD_RESET, Duration.ofHours(1));
+        tombstone(user.getId(), LocalDateTime.now(ZoneOffset.UTC).minusHours(2));
+
+        // Three chunks of 1000 use up the run's budget before the user row is reached
+        accountPurgeService.purgeDeletedAccounts();
+
+        assertEquals(TOKEN_COUNT - 3000, countRows("refresh_tokens", user.getId()));
+        assertEquals(1, countUserRows(user.getId()));
+        assertEquals(1, countRows("user_addresses", user.getId()));
+        assertEquals(1, countRows("one_time_tokens", user.getId()));
+
+        accountPurgeService.purgeDeletedAccounts();
+
+        assertEquals(0, countRows("refresh_tokens", user.getId()));
+        assertEquals(0, countRows("user_addresses", user.getId()));
+        assertEquals(0, countRows("one_time_tokens", user.getId()));
+        assertEquals(0, countUserRows(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Should tombstone a deleted account, keep it through the grace period and purge it afterwards")
+    void shouldTombstoneAndPurgeDeletedAccount() {
+        String email = "purge-lifecycle@example.com";
+        UUID userId = UUID.fromString(authService.register(registerRequest(email)).getUserId());
+
+        userService.deleteAccount(userId);
+
+        // The row stays, hidden from the application, and can no longer sign in
+        assertEquals(1, countUserRows(userId));
+        assertTrue(userRepository.findById(userId).isEmpty());
+        assertThrows(InvalidCredentialsException.class, () -> authService.login(loginRequest(email)));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ? AND revoked = FALSE", Integer.class, userId));
+
+        // Deleted just now, so still inside the grace period
+        accountPurgeService.purgeDeletedAccounts();
+        assertEquals(1, countUserRows(userId));
+        assertEquals(1, countRows("one_time_tokens", userId));
+
+        jdbcTemplate.update("UPDATE users SET deleted_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).minusHours(2)), userId);
+        accountPurgeService.purgeDeletedAccounts();
+
+        assertEquals(0, countUserRows(userId));
+        assertEquals(0, countRows("refresh_tokens", userId));
+        assertEquals(0, countRows("one_time_tokens", userId));
+
+        // Registering the email again creates a new account rather than reviving the old one
+        AuthResponse registered = authService.register(registerRequest(email));
+        assertNotEquals(userId, UUID.fromString(registered.getUserId()));
+        assertEquals(registered.getUserId(), authService.login(loginRequest(email)).getUserId());
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("not-a-real-hash")
+                .firstName("Purge")
+                .lastName("User")
+                .build());
+    }
+
+    private RegisterRequest registerRequest(String email) {
+        return RegisterRequest.builder()
+                .email(email)
+                .password(PASSWORD)
+                .firstName("Purge")
+                .lastName("User")
+                .build();
+    }
+
+    private LoginRequest loginRequest(String email) {
+        return LoginRequest.builder()
+                .email(email)
+                .password(PASSWORD)
+                .build();
+    }
+
+    private void tombstone(UUID userId, LocalDateTime deletedAt) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.markDeleted(userId, deletedAt));
+    }
+
+    private void insertRefreshTokens(UUID userId, int count) {
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plusDays(7));
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), userId, "hash-" + userId + "-" + i, expiresAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO refresh_tokens (id, user_id, token_hash, expires_at, revoked) "
+                + "VALUES (?, ?, ?, ?, FALSE)", rows);
+    }
+
+    private void insertAddress(UUID userId) {
+        jdbcTemplate.update("INSERT INTO user_addresses (id, user_id, city, is_primary) VALUES (?, ?, ?, TRUE)",
+                UUID.randomUUID(), userId, "Colombo");
+    }
+
+    private int countRows(String table, UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE user_id = ?", Integer.class, userId);
+    }
+
+    // Native count, since tombstoned users are hidden from JPA queries
+    private int countUserRows(UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId);
+    }
+}
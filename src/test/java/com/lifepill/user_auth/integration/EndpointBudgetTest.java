@@ -0,0 +1,330 @@
+package com.lifepill.user_auth.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifepill.user_auth.cache.KnownEmailFilter;
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.repository.AccessTokenRevocationRepository;
+import com.lifepill.user_auth.repository.OneTimeTokenRepository;
+import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.service.EmailService;
+import com.lifepill.user_auth.service.JwtService;
+import com.lifepill.user_auth.service.OneTimeTokenService;
+import com.lifepill.user_auth.service.RefreshTokenService;
+import com.lifepill.user_auth.util.EmailAddress;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Performance regression gate for the AuthController and UserController endpoints.
+ * <p>
+ * Each endpoint declares a budget of SQL statements (Hibernate statistics), connection pool
+ * checkouts (Hikari metrics) and bytes allocated on the request thread. A change that adds an
+ * N+1, an extra transaction or redundant work such as a second JWT parse fails the build here
+ * instead of showing up in production latency. Budgets are the measured cost plus some headroom
+ * for allocations; raise one only together with the reason in the same change. Authenticated
+ * endpoints take two checkouts, one for the user lookup in JwtAuthenticationFilter and one for
+ * the service transaction, and endpoints that hash a password allocate most of their budget in BCrypt.
+ * <p>
+ * Google sign-in is not covered since it needs Google's token endpoint.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointBudgetTest {
+
+    private static final String AUTH_PATH = "/v1/user/auth";
+    private static final String USER_PATH = "/v1/user";
+    private static final String PASSWORD = "Password123!";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EmailService emailService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OneTimeTokenRepository oneTimeTokenRepository;
+
+    @Autowired
+    private AccessTokenRevocationRepository accessTokenRevocationRepository;
+
+    @Autowired
+    private OneTimeTokenService oneTimeTokenService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private KnownEmailFilter knownEmailFilter;
+
+    private static String passwordHash;
+
+    private Statistics statistics;
+
+    /**
+     * Per-request cost ceiling.
+     *
+     * @param statements SQL statements prepared by Hibernate
+     * @param connections connections checked out of the pool
+     * @param allocatedBytes bytes allocated by the thread serving the request
+     */
+    private record Budget(long statements, long connections, long allocatedBytes) {
+    }
+
+    /**
+     * Builds a request, creating whatever fixture data it needs.
+     */
+    @FunctionalInterface
+    private interface RequestFactory {
+        MockHttpServletRequestBuilder create() throws Exception;
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (passwordHash == null) {
+            passwordHash = passwordEncoder.encode(PASSWORD);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        oneTimeTokenRepository.deleteAll();
+        accessTokenRevocationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /auth/register")
+    void register() throws Exception {
+        assertWithinBudget(new Budget(4, 1, 10_000_000), () -> json(post(AUTH_PATH + "/register"), Map.of(
+                "email", nextEmail(), "password", PASSWORD, "firstName", "Budget", "lastName", "User")));
+    }
+
+    @Test
+    @DisplayName("POST /auth/login")
+    void login() throws Exception {
+        assertWithinBudget(new Budget(3, 1, 10_000_000), () -> json(post(AUTH_PATH + "/login"),
+                Map.of("email", saveUser().getEmail(), "password", PASSWORD)));
+    }
+
+    @Test
+    @DisplayName("GET /auth/google/status")
+    void googleStatus() throws Exception {
+        assertWithinBudget(new Budget(0, 0, 500_000), () -> get(AUTH_PATH + "/google/status"));
+    }
+
+    @Test
+    @DisplayName("POST /auth/forgot-password")
+    void forgotPassword() throws Exception {
+        assertWithinBudget(new Budget(3, 1, 1_000_000), () -> json(post(AUTH_PATH + "/forgot-password"),
+                Map.of("email", saveUser().getEmail())));
+    }
+
+    @Test
+    @DisplayName("GET /auth/reset-password")
+    void resetPasswordPage() throws Exception {
+        assertWithinBudget(new Budget(0, 0, 1_000_000), () -> get(AUTH_PATH + "/reset-password").param("token", "t"));
+    }
+
+    @Test
+    @DisplayName("POST /auth/reset-password")
+    void resetPassword() throws Exception {
+        assertWithinBudget(new Budget(5, 1, 10_000_000), () -> json(post(AUTH_PATH + "/reset-password"), Map.of(
+                "token", issueToken(saveUser(), OneTimeTokenType.PASSWORD_RESET), "newPassword", "NewPassword123!")));
+    }
+
+    @Test
+    @DisplayName("POST /auth/verify-email")
+    void verifyEmail() throws Exception {
+        // Token consume, contact lookup and the emailVerified update
+        assertWithinBudget(new Budget(3, 1, 1_000_000), () -> json(post(AUTH_PATH + "/verify-email"),
+                Map.of("token", issueToken(saveUser(false), OneTimeTokenType.EMAIL_VERIFICATION))));
+    }
+
+    @Test
+    @DisplayName("GET /auth/verify-email")
+    void verifyEmailViaLink() throws Exception {
+        assertWithinBudget(new Budget(3, 1, 1_000_000), () -> get(AUTH_PATH + "/verify-email")
+                .param("token", issueToken(saveUser(false), OneTimeTokenType.EMAIL_VERIFICATION)));
+    }
+
+    @Test
+    @DisplayName("POST /auth/resend-verification")
+    void resendVerification() throws Exception {
+        assertWithinBudget(new Budget(3, 1, 1_000_000), () -> json(post(AUTH_PATH + "/resend-verification"),
+                Map.of("email", saveUser(false).getEmail())));
+    }
+
+    @Test
+    @DisplayName("POST /auth/refresh-token")
+    void refreshToken() throws Exception {
+        assertWithinBudget(new Budget(4, 1, 1_000_000), () -> json(post(AUTH_PATH + "/refresh-token"),
+                Map.of("refreshToken", issueRefreshToken(saveUser()))));
+    }
+
+    @Test
+    @DisplayName("POST /auth/logout")
+    void logout() throws Exception {
+        assertWithinBudget(new Budget(3, 2, 1_000_000), () -> {
+            User user = saveUser();
+            String accessToken = jwtService.generateAccessToken(user);
+            return json(post(AUTH_PATH + "/logout").header("Authorization", "Bearer " + accessToken),
+                    Map.of("refreshToken", issueRefreshToken(user), "accessToken", accessToken));
+        });
+    }
+
+    @Test
+    @DisplayName("POST /auth/introspect")
+    void introspect() throws Exception {
+        assertWithinBudget(new Budget(0, 0, 1_000_000), () -> json(post(AUTH_PATH + "/introspect")
+                        .with(httpBasic("test-gateway", "test-gateway-secret")),
+                Map.of("token", jwtService.generateAccessToken(saveUser()))));
+
+        String userToken = jwtService.generateAccessToken(saveUser());
+        assertEquals(401, mockMvc.perform(json(post(AUTH_PATH + "/introspect"), Map.of("token", userToken))
+                .header("Authorization", "Bearer " + userToken)).andReturn().getResponse().getStatus());
+    }
+
+    @Test
+    @DisplayName("GET /user/profile")
+    void getProfile() throws Exception {
+        assertWithinBudget(new Budget(4, 2, 1_000_000), () -> authorized(get(USER_PATH + "/profile"), saveUser()));
+    }
+
+    @Test
+    @DisplayName("PUT /user/profile")
+    void updateProfile() throws Exception {
+        assertWithinBudget(new Budget(4, 2, 1_000_000), () -> json(authorized(put(USER_PATH + "/profile"), saveUser()),
+                Map.of("firstName", "Changed")));
+    }
+
+    @Test
+    @DisplayName("DELETE /user/account")
+    void deleteAccount() throws Exception {
+        assertWithinBudget(new Budget(4, 2, 1_000_000), () -> authorized(delete(USER_PATH + "/account"), saveUser()));
+    }
+
+    /**
+     * Perform the request once to warm up class loading and first-use caches, then measure a fresh one.
+     */
+    private void assertWithinBudget(Budget budget, RequestFactory requestFactory) throws Exception {
+        mockMvc.perform(requestFactory.create());
+        MockHttpServletRequestBuilder request = requestFactory.create();
+
+        statistics.clear();
+        double checkoutsBefore = connectionCheckouts();
+        long allocatedBefore = allocatedBytes();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        long allocated = allocatedBytes() - allocatedBefore;
+        long checkouts = Math.round(connectionCheckouts() - checkoutsBefore);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertTrue(result.getResponse().getStatus() < 400,
+                () -> "Request failed with status " + result.getResponse().getStatus());
+        assertAll(
+                () -> assertTrue(statements <= budget.statements(),
+                        () -> "SQL statements " + statements + " exceed budget " + budget.statements()),
+                () -> assertTrue(checkouts <= budget.connections(),
+                        () -> "Connection checkouts " + checkouts + " exceed budget " + budget.connections()),
+                () -> assertTrue(allocated <= budget.allocatedBytes(),
+                        () -> "Allocated bytes " + allocated + " exceed budget " + budget.allocatedBytes())
+        );
+    }
+
+    private double connectionCheckouts() {
+        return meterRegistry.get("hikaricp.connections.acquire").timer().count();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Map<String, String> body)
+            throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, User user) {
+        return request.header("Authorization", "Bearer " + jwtService.generateAccessToken(user));
+    }
+
+    private User saveUser() {
+        return saveUser(true);
+    }
+
+    private User saveUser(boolean emailVerified) {
+        User user = userRepository.save(User.builder()
+                .email(nextEmail())
+                .passwordHash(passwordHash)
+                .firstName("Budget")
+                .lastName("User")
+                .emailVerified(emailVerified)
+                .build());
+        knownEmailFilter.put(EmailAddress.of(user.getEmail()));
+        return user;
+    }
+
+    private String issueToken(User user, OneTimeTokenType tokenType) {
+        return oneTimeTokenService.issueToken(user.getId(), tokenType, Duration.ofHours(1));
+    }
+
+    private String issueRefreshToken(User user) {
+        String refreshToken = jwtService.generateRefreshToken(user);
+        refreshTokenService.createRefreshToken(user, refreshToken);
+        return refreshToken;
+    }
+
+    private String nextEmail() {
+        return "budget" + SEQUENCE.incrementAndGet() + "@example.com";
+    }
+}
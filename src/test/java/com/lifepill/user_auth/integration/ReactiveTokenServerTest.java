@@ -0,0 +1,131 @@
+package com.lifepill.user_auth.integration;
+
+import com.lifepill.user_auth.config.ReactiveServerConfig.ReactiveTokenServer;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.service.JwtService;
+import com.lifepill.user_auth.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the reactive token server, against the same database as the servlet stack.
+ */
+@SpringBootTest(properties = {
+        "reactive.server.enabled=true",
+        "reactive.server.port=0",
+        "reactive.r2dbc.url=r2dbc:h2:mem:///testdb?options=MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "reactive.r2dbc.username=sa",
+        "reactive.r2dbc.password="
+})
+@ActiveProfiles("test")
+class ReactiveTokenServerTest {
+
+    @Autowired
+    private ReactiveTokenServer reactiveTokenServer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    private WebTestClient client;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveTokenServer.getPort() + "/api/v1/user/auth")
+                .build();
+        user = userRepository.save(User.builder()
+                .email("reactive-" + UUID.randomUUID() + "@test.com")
+                .passwordHash("hash")
+                .firstName("Reactive")
+                .lastName("Test")
+                .emailVerified(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should rotate a refresh token exactly once and issue tokens the servlet stack accepts")
+    void shouldRotateRefreshTokenOnce() {
+        String refreshToken = jwtService.generateRefreshToken(user);
+        refreshTokenService.createRefreshToken(user, refreshToken);
+
+        Map<?, ?> data = (Map<?, ?>) client.post().uri("/refresh-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", refreshToken))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Content-Type-Options", "nosniff")
+                .expectBody(Map.class)
+                .returnResult().getResponseBody()
+                .get("data");
+
+        String newRefreshToken = (String) data.get("refreshToken");
+        assertTrue(refreshTokenService.findValidToken(newRefreshToken).isPresent());
+        assertTrue(refreshTokenService.findValidToken(refreshToken).isEmpty());
+
+        client.post().uri("/refresh-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", refreshToken))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo("INVALID_TOKEN");
+
+        client.post().uri("/introspect")
+                .headers(headers -> headers.setBasicAuth("test-gateway", "test-gateway-secret"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("token", data.get("accessToken")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.active").isEqualTo(true)
+                .jsonPath("$.sub").isEqualTo(user.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid requests with the servlet error bodies")
+    void shouldRejectInvalidRequests() {
+        client.post().uri("/refresh-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", ""))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.error.details.refreshToken").isEqualTo("Refresh token is required");
+
+        client.post().uri("/refresh-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", jwtService.generateAccessToken(user)))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo("INVALID_TOKEN");
+
+        client.post().uri("/introspect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("token", jwtService.generateAccessToken(user)))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo("UNAUTHORIZED");
+    }
+}
@@ -0,0 +1,60 @@
+package com.lifepill.user_auth.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for RepeatedMessageSamplingFilter.
+ */
+class RepeatedMessageSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = context.getLogger("sampling-test");
+
+    @BeforeEach
+    void setUp() {
+        RepeatedMessageSamplingFilter filter = new RepeatedMessageSamplingFilter();
+        filter.setMaxPerSecond(5);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender.setContext(context);
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+    }
+
+    @Test
+    @DisplayName("Should sample repetitions of one format but not other formats")
+    void shouldSampleRepetitions() {
+        for (int i = 0; i < 100; i++) {
+            logger.info("Processing login for email: {}", "user" + i + "@example.com");
+        }
+        logger.info("User logged in successfully: {}", 1);
+
+        long logins = appender.list.stream()
+                .filter(event -> event.getMessage().startsWith("Processing login")).count();
+        assertTrue(logins >= 5 && logins < 100, "logged " + logins);
+        assertEquals("User logged in successfully: {}", appender.list.get(appender.list.size() - 1).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should never sample warnings and errors")
+    void shouldNotSampleWarnings() {
+        for (int i = 0; i < 20; i++) {
+            logger.warn("Login rate limit exceeded for IP: {}", i);
+        }
+
+        assertEquals(20, appender.list.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.lifepill.user_auth.mapper;
+
+import com.lifepill.user_auth.dto.request.AddressRequest;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.entity.UserAddress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the MapStruct mappings produce the same output as the former ModelMapper ones.
+ */
+class UserMapperEquivalenceTest {
+
+    private final UserMapper userMapper = new UserMapper(Mappers.getMapper(UserMapStructMapper.class));
+    private final UserModelMapper modelMapper = new UserModelMapper();
+
+    @Test
+    @DisplayName("Should map users with and without optional data identically")
+    void shouldMapUsersIdentically() {
+        for (User user : List.of(fullUser(), minimalUser())) {
+            assertEquals(modelMapper.toUserProfileResponse(user), userMapper.toUserProfileResponse(user));
+            assertEquals(modelMapper.toAuthResponse(user, "access", "refresh"),
+                    userMapper.toAuthResponse(user, "access", "refresh"));
+            assertEquals(modelMapper.toProfileData(user), userMapper.toProfileData(user));
+        }
+    }
+
+    @Test
+    @DisplayName("Should map addresses and partial address updates identically")
+    void shouldMapAddressesIdentically() {
+        AddressRequest request = AddressRequest.builder()
+                .street("1 Main St")
+                .city("Colombo")
+                .country("Sri Lanka")
+                .build();
+
+        UserAddress expected = modelMapper.toUserAddress(request);
+        UserAddress actual = userMapper.toUserAddress(request);
+        assertEquals(userMapper.toAddressResponse(expected), userMapper.toAddressResponse(actual));
+        assertEquals(expected.getIsPrimary(), actual.getIsPrimary());
+
+        UserAddress updatedByModelMapper = address();
+        UserAddress updatedByMapStruct = address();
+        modelMapper.updateAddressFromRequest(request, updatedByModelMapper);
+        userMapper.updateAddressFromRequest(request, updatedByMapStruct);
+        assertEquals(userMapper.toAddressResponse(updatedByModelMapper),
+                userMapper.toAddressResponse(updatedByMapStruct));
+        assertEquals("WP", updatedByMapStruct.getState());
+    }
+
+    private static User fullUser() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("full@example.com")
+                .firstName("Full")
+                .lastName("User")
+                .phoneNumber("+94771234567")
+                .dateOfBirth(LocalDate.of(1990, 1, 15))
+                .emailVerified(true)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 12, 30))
+                .build();
+        user.addAddress(address());
+        return user;
+    }
+
+    private static User minimalUser() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email("minimal@example.com")
+                .firstName("Minimal")
+                .lastName("User")
+                .build();
+    }
+
+    private static UserAddress address() {
+        return UserAddress.builder()
+                .street("2 Old Rd")
+                .city("Kandy")
+                .state("WP")
+                .zipCode("20000")
+                .country("Sri Lanka")
+                .build();
+    }
+}
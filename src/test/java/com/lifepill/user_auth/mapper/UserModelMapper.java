@@ -7,20 +7,28 @@ import com.lifepill.user_auth.dto.response.ProfileData;
 import com.lifepill.user_auth.dto.response.UserProfileResponse;
 import com.lifepill.user_auth.entity.User;
 import com.lifepill.user_auth.entity.UserAddress;
-import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.modelmapper.convention.MatchingStrategies;
 
 /**
- * ModelMapper-based mapper for flexible object mapping.
- * Uses ModelMapper for runtime mapping with custom configurations.
+ * ModelMapper-based reference implementation of the user mappings.
+ * No longer used at runtime; kept to check that the generated MapStruct mappings produce
+ * identical output and to benchmark both approaches.
  */
-@Component
-@RequiredArgsConstructor
 public class UserModelMapper {
 
     private final ModelMapper modelMapper;
 
+    public UserModelMapper() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setSkipNullEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
+                .setAmbiguityIgnored(true);
+    }
+
     /**
      * Convert AddressRequest DTO to UserAddress entity.
      *
@@ -0,0 +1,34 @@
+package com.lifepill.user_auth.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for AuthMetrics.
+ */
+class AuthMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AuthMetrics authMetrics = new AuthMetrics(registry);
+
+    @Test
+    @DisplayName("Should time every check and count only the failed ones")
+    void shouldTimeChecksAndCountFailures() {
+        assertTrue(authMetrics.recordCheck(AuthMetrics.PHASE_PASSWORD_MATCH, AuthMetrics.OPERATION_LOGIN, () -> true));
+        assertFalse(authMetrics.recordCheck(AuthMetrics.PHASE_PASSWORD_MATCH, AuthMetrics.OPERATION_LOGIN, () -> false));
+        assertEquals("token", authMetrics.record(AuthMetrics.PHASE_TOKEN_SIGN, AuthMetrics.OPERATION_ACCESS, () -> "token"));
+
+        assertEquals(2, registry.get("auth.phase")
+                .tag("phase", AuthMetrics.PHASE_PASSWORD_MATCH)
+                .tag("operation", AuthMetrics.OPERATION_LOGIN)
+                .timer().count());
+        assertEquals(1, registry.get("auth.phase.failures")
+                .tag("phase", AuthMetrics.PHASE_PASSWORD_MATCH)
+                .counter().count());
+        assertEquals(1, registry.get("auth.phase").tag("phase", AuthMetrics.PHASE_TOKEN_SIGN).timer().count());
+        assertTrue(registry.find("auth.phase.failures").tag("phase", AuthMetrics.PHASE_TOKEN_SIGN).meters().isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.OneTimeToken;
+import com.lifepill.user_auth.entity.OneTimeTokenType;
+import com.lifepill.user_auth.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repository tests for OneTimeTokenRepository.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class OneTimeTokenRepositoryTest {
+
+    @Autowired
+    private OneTimeTokenRepository oneTimeTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email("token.user@example.com")
+                .passwordHash("hashedPassword")
+                .firstName("Token")
+                .lastName("User")
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("Should consume a valid token exactly once")
+    void shouldConsumeTokenOnce() {
+        saveToken("digest-1", OneTimeTokenType.PASSWORD_RESET, LocalDateTime.now().plusHours(1));
+
+        Optional<UUID> first = oneTimeTokenRepository.consume("digest-1", OneTimeTokenType.PASSWORD_RESET, LocalDateTime.now());
+        Optional<UUID> second = oneTimeTokenRepository.consume("digest-1", OneTimeTokenType.PASSWORD_RESET, LocalDateTime.now());
+
+        assertEquals(Optional.of(userId), first);
+        assertTrue(second.isEmpty());
+        assertEquals(0, oneTimeTokenRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should not consume expired tokens or tokens of another type")
+    void shouldRejectExpiredOrMismatchedToken() {
+        saveToken("expired", OneTimeTokenType.EMAIL_VERIFICATION, LocalDateTime.now().minusMinutes(1));
+        saveToken("reset", OneTimeTokenType.PASSWORD_RESET, LocalDateTime.now().plusHours(1));
+
+        assertTrue(oneTimeTokenRepository.consume("expired", OneTimeTokenType.EMAIL_VERIFICATION, LocalDateTime.now()).isEmpty());
+        assertTrue(oneTimeTokenRepository.consume("reset", OneTimeTokenType.EMAIL_VERIFICATION, LocalDateTime.now()).isEmpty());
+        assertEquals(2, oneTimeTokenRepository.count());
+    }
+
+    private void saveToken(String tokenHash, OneTimeTokenType tokenType, LocalDateTime expiresAt) {
+        oneTimeTokenRepository.saveAndFlush(OneTimeToken.builder()
+                .userId(userId)
+                .tokenType(tokenType)
+                .tokenHash(tokenHash)
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
@@ -0,0 +1,59 @@
+package com.lifepill.user_auth.repository;
+
+import com.lifepill.user_auth.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repository tests for UserRepository targeted updates.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should update password hash and verification flag without loading the user")
+    void shouldUpdateColumnsWithoutLoadingUser() {
+        User user = userRepository.save(User.builder()
+                .email("targeted.update@example.com")
+                .passwordHash("oldHash")
+                .firstName("Targeted")
+                .lastName("Update")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        assertEquals(1, userRepository.updatePasswordHash(user.getId(), "newHash"));
+        userRepository.updateEmailVerified(user.getId(), true);
+        assertEquals(new UserContact("targeted.update@example.com", "Targeted"),
+                userRepository.findContactById(user.getId()).orElseThrow());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals("newHash", updated.getPasswordHash());
+        assertTrue(updated.getEmailVerified());
+        assertEquals(0, userRepository.updatePasswordHash(UUID.randomUUID(), "newHash"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.lifepill.user_auth.security;
+
+import com.lifepill.user_auth.entity.AccessTokenRevocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for AccessTokenRevocationList.
+ */
+class AccessTokenRevocationListTest {
+
+    private final AccessTokenRevocationList revocationList = new AccessTokenRevocationList(new SimpleMeterRegistry());
+    private final UUID userId = UUID.randomUUID();
+    private final long now = Instant.now().getEpochSecond();
+
+    @Test
+    @DisplayName("Should revoke tokens of a user issued up to and within the second of the cutoff only")
+    void shouldApplyUserCutoff() {
+        revocationList.revokeUser(userId, now, now + 1800);
+
+        assertTrue(revocationList.isRevoked("old", userId, now - 1));
+        assertTrue(revocationList.isRevoked("same-second", userId, now));
+        assertFalse(revocationList.isRevoked("new", userId, now + 1));
+        assertFalse(revocationList.isRevoked("other", UUID.randomUUID(), now - 1));
+    }
+
+    @Test
+    @DisplayName("Should keep the latest cutoff per user")
+    void shouldKeepLatestCutoff() {
+        revocationList.revokeUser(userId, now, now + 1800);
+        revocationList.revokeUser(userId, now - 60, now + 1740);
+
+        assertTrue(revocationList.isRevoked(null, userId, now - 30));
+    }
+
+    @Test
+    @DisplayName("Should read persisted revocation timestamps as UTC")
+    void shouldReadPersistedRevocationsAsUtc() {
+        revocationList.add(AccessTokenRevocation.builder()
+                .userId(userId)
+                .notBefore(LocalDateTime.ofEpochSecond(now, 0, ZoneOffset.UTC))
+                .expiresAt(LocalDateTime.ofEpochSecond(now + 1800, 0, ZoneOffset.UTC))
+                .build());
+
+        assertTrue(revocationList.isRevoked(null, userId, now));
+        assertFalse(revocationList.isRevoked(null, userId, now + 1));
+    }
+
+    @Test
+    @DisplayName("Should drop revocations once the covered tokens have expired")
+    void shouldCleanupExpiredEntries() {
+        revocationList.revokeToken("expired", now - 1);
+        revocationList.revokeToken("live", now + 60);
+
+        revocationList.cleanupExpiredEntries();
+
+        assertFalse(revocationList.isRevoked("expired", userId, now));
+        assertTrue(revocationList.isRevoked("live", userId, now));
+    }
+}
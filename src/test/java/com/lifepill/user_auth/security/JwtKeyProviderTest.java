@@ -0,0 +1,199 @@
+package com.lifepill.user_auth.security;
+
+import com.lifepill.user_auth.config.JwtSigningProperties;
+import com.lifepill.user_auth.entity.User;
+import com.lifepill.user_auth.metrics.AuthMetrics;
+import com.lifepill.user_auth.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ES256 signing, kid-based key resolution and key rotation.
+ */
+class JwtKeyProviderTest {
+
+    private static final String SECRET =
+            "dGVzdFNlY3JldEtleUZvckpXVFRva2VuR2VuZXJhdGlvblRoYXRTaG91bGRCZUF0TGVhc3QyNTZCaXRzTG9uZw==";
+
+    private final KeyPair activeKeyPair = Jwts.SIG.ES256.keyPair().build();
+    private final KeyPair previousKeyPair = Jwts.SIG.ES256.keyPair().build();
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .email("keys@example.com")
+            .emailVerified(true)
+            .build();
+
+    private JwtSigningProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtSigningProperties();
+        properties.setAlgorithm("ES256");
+        properties.setActiveKid("active");
+        properties.setKeys(List.of(
+                key("active", activeKeyPair, true),
+                key("previous", previousKeyPair, false)));
+    }
+
+    @Test
+    @DisplayName("Should sign with the active key and write its kid to the header")
+    void shouldSignWithActiveKey() {
+        JwtServiceImpl jwtService = jwtService(keyProvider());
+
+        String token = jwtService.generateAccessToken(user);
+
+        assertEquals("active", Jwts.parser().verifyWith(activeKeyPair.getPublic()).build()
+                .parseSignedClaims(token).getHeader().getKeyId());
+        assertEquals(user.getId(), jwtService.extractUserId(token));
+    }
+
+    @Test
+    @DisplayName("Should verify tokens signed by any published key")
+    void shouldVerifyWithPreviousKey() {
+        JwtServiceImpl jwtService = jwtService(keyProvider());
+        String token = Jwts.builder()
+                .header().keyId("previous").and()
+                .subject(user.getId().toString())
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(previousKeyPair.getPrivate())
+                .compact();
+
+        assertTrue(jwtService.parseClaims(token).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should accept legacy HMAC tokens only while enabled")
+    void shouldHandleLegacyHmacTokens() {
+        String legacyToken = Jwts.builder()
+                .subject(user.getId().toString())
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+
+        assertTrue(jwtService(keyProvider()).parseClaims(legacyToken).isPresent());
+
+        properties.setAcceptLegacyHmac(false);
+        assertTrue(jwtService(keyProvider()).parseClaims(legacyToken).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should publish only public keys in the JWK Set")
+    void shouldPublishPublicKeys() {
+        String jwks = new String(keyProvider().getJwksJson(), StandardCharsets.UTF_8);
+
+        assertTrue(jwks.startsWith("{\"keys\":["));
+        assertTrue(jwks.contains("\"kid\":\"active\""));
+        assertTrue(jwks.contains("\"kid\":\"previous\""));
+        assertFalse(jwks.contains("\"d\":"));
+    }
+
+    @Test
+    @DisplayName("Should keep verifying the previous signing key after rotation, also after a restart")
+    void shouldKeepPreviousKeyDuringOverlap() {
+        JwtKeyProvider keyProvider = keyProvider();
+        JwtServiceImpl jwtService = jwtService(keyProvider);
+        String tokenBeforeRotation = jwtService.generateAccessToken(user);
+
+        // Rotate while keeping the old key configured until its retire-at
+        KeyPair nextKeyPair = Jwts.SIG.ES256.keyPair().build();
+        JwtSigningProperties.Key retiring = key("active", activeKeyPair, false);
+        retiring.setRetireAt(Instant.now().plus(properties.getRotationOverlap()).plusSeconds(60));
+        properties.setActiveKid("next");
+        properties.setKeys(List.of(key("next", nextKeyPair, true), retiring));
+        keyProvider.reload();
+
+        assertEquals("next", keyProvider.getSigningKid());
+        assertTrue(jwtService.parseClaims(tokenBeforeRotation).isPresent());
+        assertTrue(jwtService.parseClaims(jwtService.generateAccessToken(user)).isPresent());
+        assertTrue(new String(keyProvider.getJwksJson(), StandardCharsets.UTF_8).contains("\"kid\":\"active\""));
+        assertTrue(jwtService(keyProvider()).parseClaims(tokenBeforeRotation).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should reject a rotation that drops the previous signing key before the overlap")
+    void shouldRejectRotationWithoutRetiringPreviousKey() {
+        JwtKeyProvider keyProvider = keyProvider();
+        KeyPair nextKeyPair = Jwts.SIG.ES256.keyPair().build();
+
+        properties.setActiveKid("next");
+        properties.setKeys(List.of(key("next", nextKeyPair, true)));
+        keyProvider.reload();
+        assertEquals("active", keyProvider.getSigningKid());
+
+        JwtSigningProperties.Key retiringTooSoon = key("active", activeKeyPair, false);
+        retiringTooSoon.setRetireAt(Instant.now().plusSeconds(60));
+        properties.setKeys(List.of(key("next", nextKeyPair, true), retiringTooSoon));
+        keyProvider.reload();
+        assertEquals("active", keyProvider.getSigningKid());
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with a retired key")
+    void shouldRejectRetiredKey() {
+        JwtSigningProperties.Key retired = key("previous", previousKeyPair, false);
+        retired.setRetireAt(Instant.now().minusSeconds(1));
+        properties.setKeys(List.of(key("active", activeKeyPair, true), retired));
+        JwtServiceImpl jwtService = jwtService(keyProvider());
+        String token = Jwts.builder()
+                .header().keyId("previous").and()
+                .subject(user.getId().toString())
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(previousKeyPair.getPrivate())
+                .compact();
+
+        assertTrue(jwtService.parseClaims(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should fail instead of signing with a generated key unless explicitly allowed")
+    void shouldRequireConfiguredEs256SigningKey() {
+        properties.setActiveKid("missing");
+
+        assertThrows(IllegalStateException.class, this::keyProvider);
+
+        properties.setAllowEphemeralKey(true);
+        assertTrue(keyProvider().getSigningKid().startsWith("ephemeral-"));
+    }
+
+    private JwtKeyProvider keyProvider() {
+        JwtKeyProvider keyProvider = new JwtKeyProvider(properties,
+                new MockEnvironment().withProperty("jwt.secret", SECRET));
+        keyProvider.init();
+        return keyProvider;
+    }
+
+    private JwtServiceImpl jwtService(JwtKeyProvider keyProvider) {
+        JwtServiceImpl jwtService = new JwtServiceImpl(keyProvider, new AuthMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 60000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 60000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    private JwtSigningProperties.Key key(String kid, KeyPair keyPair, boolean withPrivateKey) {
+        JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+        key.setKid(kid);
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+}
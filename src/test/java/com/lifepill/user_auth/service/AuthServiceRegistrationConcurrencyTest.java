@@ -0,0 +1,93 @@
+package com.lifepill.user_auth.service;
+
+import com.lifepill.user_auth.dto.request.RegisterRequest;
+import com.lifepill.user_auth.exception.EmailAlreadyExistsException;
+import com.lifepill.user_auth.repository.UserRepository;
+import com.lifepill.user_auth.util.EmailAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency tests for atomic registration in AuthServiceImpl.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceRegistrationConcurrencyTest {
+
+    private static final int PARALLEL_REQUESTS = 8;
+    private static final String EMAIL = "Race.Condition@Example.com";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findByEmail(EmailAddress.of(EMAIL))
+                        .ifPresent(userRepository::delete));
+    }
+
+    @Test
+    @DisplayName("Should register exactly one user when duplicate registrations race")
+    void shouldRegisterExactlyOnceUnderConcurrency() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+                // Vary the case to prove canonicalization happens before the insert
+                String email = i % 2 == 0 ? EMAIL : EMAIL.toLowerCase();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return authService.register(RegisterRequest.builder()
+                            .email(email)
+                            .password("Password123!")
+                            .firstName("Race")
+                            .lastName("Condition")
+                            .build());
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int conflicts = 0;
+            for (Future<?> result : results) {
+                try {
+                    assertNotNull(result.get());
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(EmailAlreadyExistsException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+
+            assertEquals(1, succeeded);
+            assertEquals(PARALLEL_REQUESTS - 1, conflicts);
+            assertTrue(userRepository.existsByEmail(EmailAddress.of(EMAIL)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.lifepill.user_auth.service;
+
+import com.lifepill.user_auth.dto.response.IntrospectionResponse;
+import com.lifepill.user_auth.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TokenIntrospectionService.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenIntrospectionServiceTest {
+
+    @Autowired
+    private TokenIntrospectionService tokenIntrospectionService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .email("introspect@example.com")
+            .emailVerified(true)
+            .build();
+
+    @Test
+    @DisplayName("Should report access tokens as active and memoize the result")
+    void shouldIntrospectAccessToken() {
+        String accessToken = jwtService.generateAccessToken(user);
+
+        IntrospectionResponse response = tokenIntrospectionService.introspect(accessToken);
+
+        assertTrue(response.isActive());
+        assertEquals(user.getId().toString(), response.getSub());
+        assertEquals(user.getEmail(), response.getEmail());
+        assertEquals(JwtService.ACCESS_TOKEN_TYPE, response.getTokenType());
+        assertNotNull(response.getExp());
+        assertSame(response, tokenIntrospectionService.introspect(accessToken));
+    }
+
+    @Test
+    @DisplayName("Should report refresh and malformed tokens as inactive in batch order")
+    void shouldIntrospectBatch() {
+        List<IntrospectionResponse> responses = tokenIntrospectionService.introspect(List.of(
+                jwtService.generateAccessToken(user),
+                jwtService.generateRefreshToken(user),
+                "not-a-jwt"));
+
+        assertEquals(3, responses.size());
+        assertTrue(responses.get(0).isActive());
+        assertFalse(responses.get(1).isActive());
+        assertFalse(responses.get(2).isActive());
+        assertNull(responses.get(2).getSub());
+    }
+
+    @Test
+    @DisplayName("Should report a revoked token as inactive even after it was memoized")
+    void shouldIntrospectRevokedToken() {
+        String accessToken = jwtService.generateAccessToken(user);
+        assertTrue(tokenIntrospectionService.introspect(accessToken).isActive());
+
+        tokenRevocationService.revokeAccessToken(accessToken);
+
+        assertFalse(tokenIntrospectionService.introspect(accessToken).isActive());
+        assertTrue(tokenIntrospectionService.introspect(jwtService.generateAccessToken(user)).isActive());
+    }
+}
@@ -0,0 +1,35 @@
+package com.lifepill.user_auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for LogMasking.
+ */
+class LogMaskingTest {
+
+    @Test
+    @DisplayName("Should mask single addresses like the rate limiter always did")
+    void shouldMaskAddresses() {
+        assertEquals("jo***@example.com", LogMasking.maskEmail("john.doe@example.com"));
+        assertEquals("***@example.com", LogMasking.maskEmail("jo@example.com"));
+        assertEquals("***", LogMasking.maskEmail("not-an-email"));
+        assertEquals("unknown", LogMasking.maskEmail(null));
+        assertEquals("192.168.1.***", LogMasking.maskIp("192.168.1.20"));
+        assertEquals("***", LogMasking.maskIp("::1"));
+    }
+
+    @Test
+    @DisplayName("Should mask every email and IPv4 address in a message")
+    void shouldMaskMessages() {
+        assertEquals("Processing login for email: jo***@example.com from 10.0.0.***",
+                LogMasking.mask("Processing login for email: john.doe@example.com from 10.0.0.7"));
+        assertEquals("al***@x.io and ***@y.org", LogMasking.mask("alice@x.io and bo@y.org"));
+        assertEquals("User logged in successfully: 3f2c", LogMasking.mask("User logged in successfully: 3f2c"));
+        assertEquals("Version 1.2.3 took 0.5 s", LogMasking.mask("Version 1.2.3 took 0.5 s"));
+        assertEquals("Already masked: jo***@example.com, 10.0.0.***",
+                LogMasking.mask("Already masked: jo***@example.com, 10.0.0.***"));
+    }
+}